@@ -1,6 +1,7 @@
 package com.oath.cyclops.rx.adapter;
 
 
+import com.oath.cyclops.rx.util.BlockingCallDetector;
 import com.oath.cyclops.types.persistent.PersistentCollection;
 import cyclops.data.Vector;
 import cyclops.data.TreeSet;
@@ -29,6 +30,7 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import rx.Observable;
+import rx.Scheduler;
 
 
 import java.util.*;
@@ -53,6 +55,11 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
         return new ObservableReactiveSeq<>(Observables.observableFrom(observable));
     }
 
+    private ReactiveSeq<T> connectBlocking(String operation) {
+        BlockingCallDetector.checkBlocking(operation);
+        return Observables.connectToReactiveSeq(observable);
+    }
+
     @Override
     public <R> ReactiveSeq<R> coflatMap(Function<? super ReactiveSeq<T>, ? extends R> fn) {
         return observable(Observable.just(fn.apply(this)));
@@ -65,6 +72,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <U> U foldRight(U identity, BiFunction<? super T, ? super U, ? extends U> accumulator) {
+        BlockingCallDetector.checkBlocking("foldRight");
         return observable.reduce(identity,(a,b)->accumulator.apply(b,a))
                          .toBlocking()
                          .first();
@@ -272,22 +280,22 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public void forEach(Consumer<? super T> action) {
-        Observables.connectToReactiveSeq(observable).forEach(action);
+        connectBlocking("forEach").forEach(action);
     }
 
     @Override
     public void forEachOrdered(Consumer<? super T> action) {
-        Observables.connectToReactiveSeq(observable).forEachOrdered(action);
+        connectBlocking("forEachOrdered").forEachOrdered(action);
     }
 
     @Override
     public Object[] toArray() {
-        return Observables.connectToReactiveSeq(observable).toArray();
+        return connectBlocking("toArray").toArray();
     }
 
     @Override
     public <A> A[] toArray(IntFunction<A[]> generator) {
-        return Observables.connectToReactiveSeq(observable).toArray(generator);
+        return connectBlocking("toArray").toArray(generator);
     }
 
     @Override
@@ -326,113 +334,113 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public boolean allMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).allMatch(c);
+        return connectBlocking("allMatch").allMatch(c);
     }
 
     @Override
     public boolean anyMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).anyMatch(c);
+        return connectBlocking("anyMatch").anyMatch(c);
     }
 
     @Override
     public boolean xMatch(int num, Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).xMatch(num,c);
+        return connectBlocking("xMatch").xMatch(num,c);
     }
 
     @Override
     public boolean noneMatch(Predicate<? super T> c) {
-        return Observables.connectToReactiveSeq(observable).noneMatch(c);
+        return connectBlocking("noneMatch").noneMatch(c);
     }
 
     @Override
     public String join() {
-        return Observables.connectToReactiveSeq(observable).join();
+        return connectBlocking("join").join();
     }
 
     @Override
     public String join(String sep) {
-        return Observables.connectToReactiveSeq(observable).join(sep);
+        return connectBlocking("join").join(sep);
     }
 
     @Override
     public String join(String sep, String start, String end) {
-        return Observables.connectToReactiveSeq(observable).join(sep,start,end);
+        return connectBlocking("join").join(sep,start,end);
     }
 
     @Override
     public HeadAndTail<T> headAndTail() {
-        return Observables.connectToReactiveSeq(observable).headAndTail();
+        return connectBlocking("headAndTail").headAndTail();
     }
 
     @Override
     public Optional<T> findFirst() {
-        return Observables.connectToReactiveSeq(observable).findFirst();
+        return connectBlocking("findFirst").findFirst();
     }
 
     @Override
     public Maybe<T> takeOne() {
-        return Observables.connectToReactiveSeq(observable).takeOne();
+        return connectBlocking("takeOne").takeOne();
     }
 
     @Override
     public LazyEither<Throwable, T> findFirstOrError() {
-        return Observables.connectToReactiveSeq(observable).findFirstOrError();
+        return connectBlocking("findFirstOrError").findFirstOrError();
     }
 
     @Override
     public Optional<T> findAny() {
-        return Observables.connectToReactiveSeq(observable).findAny();
+        return connectBlocking("findAny").findAny();
     }
 
     @Override
     public <R> R mapReduce(Reducer<R,T> reducer) {
-        return Observables.connectToReactiveSeq(observable).mapReduce(reducer);
+        return connectBlocking("mapReduce").mapReduce(reducer);
     }
 
     @Override
     public <R> R mapReduce(Function<? super T, ? extends R> mapper, Monoid<R> reducer) {
-        return Observables.connectToReactiveSeq(observable).mapReduce(mapper,reducer);
+        return connectBlocking("mapReduce").mapReduce(mapper,reducer);
     }
 
     @Override
     public T reduce(Monoid<T> reducer) {
-        return Observables.connectToReactiveSeq(observable).reduce(reducer);
+        return connectBlocking("reduce").reduce(reducer);
     }
 
     @Override
     public Optional<T> reduce(BinaryOperator<T> accumulator) {
-        return Observables.connectToReactiveSeq(observable).reduce(accumulator);
+        return connectBlocking("reduce").reduce(accumulator);
     }
 
     @Override
     public T reduce(T identity, BinaryOperator<T> accumulator) {
-        return Observables.connectToReactiveSeq(observable).reduce(identity,accumulator);
+        return connectBlocking("reduce").reduce(identity,accumulator);
     }
 
     @Override
     public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner) {
-        return Observables.connectToReactiveSeq(observable).reduce(identity, accumulator, combiner);
+        return connectBlocking("reduce").reduce(identity, accumulator, combiner);
     }
 
 
     @Override
     public Seq<T> reduce(Iterable<? extends Monoid<T>> reducers) {
-        return Observables.connectToReactiveSeq(observable).reduce(reducers);
+        return connectBlocking("reduce").reduce(reducers);
     }
 
     @Override
     public T foldRight(Monoid<T> reducer) {
-        return Observables.connectToReactiveSeq(observable).foldRight(reducer);
+        return connectBlocking("foldRight").foldRight(reducer);
     }
 
     @Override
     public T foldRight(T identity, BinaryOperator<T> accumulator) {
-        return Observables.connectToReactiveSeq(observable).foldRight(identity,accumulator);
+        return connectBlocking("foldRight").foldRight(identity,accumulator);
     }
 
     @Override
     public <T1> T1 foldRightMapToType(Reducer<T1,T> reducer) {
-        return Observables.connectToReactiveSeq(observable).foldRightMapToType(reducer);
+        return connectBlocking("foldRightMapToType").foldRightMapToType(reducer);
     }
 
     @Override
@@ -447,12 +455,12 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public boolean startsWithIterable(Iterable<T> iterable) {
-        return Observables.connectToReactiveSeq(observable).startsWithIterable(iterable);
+        return connectBlocking("startsWithIterable").startsWithIterable(iterable);
     }
 
     @Override
     public boolean startsWith(Stream<T> stream) {
-        return Observables.connectToReactiveSeq(observable).startsWith(stream);
+        return connectBlocking("startsWith").startsWith(stream);
     }
 
 
@@ -517,12 +525,12 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Iterator<T> iterator() {
-        return Observables.connectToReactiveSeq(observable).iterator();
+        return connectBlocking("iterator").iterator();
     }
 
     @Override
     public Spliterator<T> spliterator() {
-        return Observables.connectToReactiveSeq(observable).spliterator();
+        return connectBlocking("spliterator").spliterator();
     }
 
     @Override
@@ -582,12 +590,12 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public boolean endsWithIterable(Iterable<T> iterable) {
-        return Observables.connectToReactiveSeq(observable).endsWithIterable(iterable);
+        return connectBlocking("endsWithIterable").endsWithIterable(iterable);
     }
 
     @Override
     public boolean endsWith(Stream<T> stream) {
-        return Observables.connectToReactiveSeq(observable).endsWith(stream);
+        return connectBlocking("endsWith").endsWith(stream);
     }
 
     @Override
@@ -613,6 +621,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public T firstValue(T alt) {
+        BlockingCallDetector.checkBlocking("firstValue");
         return observable.toBlocking().firstOrDefault(alt);
     }
 
@@ -668,17 +677,60 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public ReactiveSeq<T> recover(Function<? super Throwable, ? extends T> fn) {
-        return observable(Observables.connectToReactiveSeq(observable).recover(fn));
+        return observable(observable.onErrorReturn(e->fn.apply(e)));
     }
 
     @Override
     public <EX extends Throwable> ReactiveSeq<T> recover(Class<EX> exceptionClass, Function<? super EX, ? extends T> fn) {
-        return observable(Observables.connectToReactiveSeq(observable).recover(exceptionClass,fn));
+        return observable(observable.onErrorResumeNext(e->exceptionClass.isInstance(e) ? Observable.just(fn.apply((EX)e)) : Observable.error(e)));
+    }
+
+    /**
+     * Retry the function for each element, if it fails, with an exponentially increasing delay between attempts. Unlike the
+     * default ReactiveSeq implementation no thread is blocked while waiting for the next attempt, the delay is scheduled on
+     * the default timer Scheduler (see {@link Observables#timerScheduler()}) and the function is retried on the Rx io
+     * Scheduler, as it is typically a blocking call.
+     */
+    @Override
+    public <R> ReactiveSeq<R> retry(Function<? super T, ? extends R> fn, int retries, long delay, TimeUnit timeUnit) {
+        return observable(observable.concatMap(t->Observables.retry(Observable.fromCallable(()->fn.apply(t)),
+                                                                    retries,delay,0,timeUnit,Observables.timerScheduler())));
+    }
+
+    /**
+     * Resubscribe to this Stream if it fails, up to times attempts, with an exponentially increasing delay (starting at backoff,
+     * plus a random jitter) between attempts. The delay is scheduled on the default timer Scheduler, no thread is blocked
+     * while waiting.
+     *
+     * @param times Maximum number of retries
+     * @param backoff Delay before the first retry, doubled for each subsequent retry
+     * @param jitter Maximum random delay added to each retry
+     * @param unit Time unit for backoff and jitter
+     * @return ReactiveSeq that retries on failure
+     */
+    public ReactiveSeq<T> retry(int times, long backoff, long jitter, TimeUnit unit) {
+        return retry(times,backoff,jitter,unit,Observables.timerScheduler());
+    }
+
+    /**
+     * Resubscribe to this Stream if it fails, up to times attempts, with an exponentially increasing delay (starting at backoff,
+     * plus a random jitter) between attempts. The delay is scheduled on the supplied Scheduler, no thread is blocked
+     * while waiting.
+     *
+     * @param times Maximum number of retries
+     * @param backoff Delay before the first retry, doubled for each subsequent retry
+     * @param jitter Maximum random delay added to each retry
+     * @param unit Time unit for backoff and jitter
+     * @param scheduler Scheduler to wait for retries on
+     * @return ReactiveSeq that retries on failure
+     */
+    public ReactiveSeq<T> retry(int times, long backoff, long jitter, TimeUnit unit, Scheduler scheduler) {
+        return observable(Observables.retry(observable,times,backoff,jitter,unit,scheduler));
     }
 
     @Override
     public long count() {
-        return Observables.connectToReactiveSeq(observable).count();
+        return connectBlocking("count").count();
     }
 
     @Override
@@ -732,7 +784,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
     @Override
     public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super T> accumulator, BiConsumer<R, R> combiner) {
 
-        return Observables.connectToReactiveSeq(observable).collect(supplier,accumulator,combiner);
+        return connectBlocking("collect").collect(supplier,accumulator,combiner);
     }
 
     @Override
@@ -742,7 +794,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public <R, A> R collect(Collector<? super T, A, R> collector) {
-        return Observables.connectToReactiveSeq(observable).collect((Collector<T,A,R>)collector);
+        return connectBlocking("collect").collect((Collector<T,A,R>)collector);
     }
 
 
@@ -753,7 +805,7 @@ public class ObservableReactiveSeq<T> implements ReactiveSeq<T> {
 
     @Override
     public Maybe<T> single() {
-        return Observables.connectToReactiveSeq(observable).single();
+        return connectBlocking("single").single();
     }
 
     @Override
@@ -0,0 +1,255 @@
+package com.oath.cyclops.rx.operators;
+
+import rx.Observable;
+import rx.Producer;
+import rx.Subscriber;
+import rx.Subscription;
+import rx.exceptions.MissingBackpressureException;
+import rx.internal.operators.BackpressureUtils;
+import rx.internal.operators.NotificationLite;
+import rx.internal.util.atomic.SpscAtomicArrayQueue;
+import rx.plugins.RxJavaHooks;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Merges Observables that each emit their elements in sorted order into a single sorted Observable (k-way merge).
+ *
+ * The current head of every source is held in a binary heap, an element is only emitted once every source that has not yet
+ * completed has a head available (so the smallest value is known). Each source is pre-fetched up to prefetch elements in
+ * parallel, and replenished as its elements are consumed from the heap.
+ *
+ * @param <T> Element type
+ */
+public final class OnSubscribeMergeSorted<T> implements Observable.OnSubscribe<T> {
+
+    private final Observable<? extends T>[] sources;
+    private final Comparator<? super T> comparator;
+    private final int prefetch;
+
+    public OnSubscribeMergeSorted(Observable<? extends T>[] sources, Comparator<? super T> comparator, int prefetch) {
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch > 0 required but it was " + prefetch);
+        }
+        this.sources = sources;
+        this.comparator = comparator;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public void call(Subscriber<? super T> child) {
+        MergeSortedCoordinator<T> parent = new MergeSortedCoordinator<>(child, comparator, sources.length, prefetch);
+        child.add(parent);
+        child.setProducer(parent);
+        parent.subscribe(sources);
+    }
+
+    static final class MergeSortedCoordinator<T> extends AtomicInteger implements Producer, Subscription {
+
+        final Subscriber<? super T> child;
+        final MergeSortedSubscriber<T>[] subscribers;
+        final PriorityQueue<MergeSortedSubscriber<T>> heads;
+        final ArrayDeque<MergeSortedSubscriber<T>> pending;
+        final AtomicLong requested = new AtomicLong();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        volatile boolean cancelled;
+        int exhausted;
+
+        @SuppressWarnings("unchecked")
+        MergeSortedCoordinator(Subscriber<? super T> child, Comparator<? super T> comparator, int n, int prefetch) {
+            this.child = child;
+            this.subscribers = new MergeSortedSubscriber[n];
+            this.heads = new PriorityQueue<>(Math.max(1, n), (a, b) -> comparator.compare(a.peek(), b.peek()));
+            this.pending = new ArrayDeque<>(Math.max(1, n));
+            for (int i = 0; i < n; i++) {
+                subscribers[i] = new MergeSortedSubscriber<>(this, prefetch);
+                pending.offer(subscribers[i]);
+            }
+        }
+
+        void subscribe(Observable<? extends T>[] sources) {
+            for (int i = 0; i < sources.length; i++) {
+                if (cancelled) {
+                    return;
+                }
+                sources[i].unsafeSubscribe(subscribers[i]);
+            }
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n < 0) {
+                throw new IllegalArgumentException("n >= 0 required but it was " + n);
+            }
+            if (n != 0) {
+                BackpressureUtils.getAndAddRequest(requested, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void unsubscribe() {
+            if (!cancelled) {
+                cancelled = true;
+                cancelAll();
+                if (getAndIncrement() == 0) {
+                    clear();
+                }
+            }
+        }
+
+        @Override
+        public boolean isUnsubscribed() {
+            return cancelled;
+        }
+
+        void onError(Throwable e) {
+            if (error.compareAndSet(null, e)) {
+                drain();
+            } else {
+                RxJavaHooks.onError(e);
+            }
+        }
+
+        /**
+         * Move sources that are waiting on a head into the heap (or mark them exhausted), only sources whose head was
+         * consumed since the last check are visited, so steady state cost is O(log n) per element.
+         *
+         * @return true if every live source has a head in the heap
+         */
+        boolean fillHeads() {
+            for (int i = pending.size(); i > 0; i--) {
+                MergeSortedSubscriber<T> s = pending.poll();
+                boolean done = s.done;
+                if (!s.queue.isEmpty()) {
+                    heads.offer(s);
+                } else if (done) {
+                    exhausted++;
+                } else {
+                    pending.offer(s);
+                }
+            }
+            return pending.isEmpty();
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            for (;;) {
+                long r = requested.get();
+                long e = 0L;
+                for (;;) {
+                    if (cancelled) {
+                        clear();
+                        return;
+                    }
+                    Throwable ex = error.get();
+                    if (ex != null) {
+                        cancelAll();
+                        clear();
+                        child.onError(ex);
+                        return;
+                    }
+                    boolean ready = fillHeads();
+                    if (exhausted == subscribers.length) {
+                        child.onCompleted();
+                        return;
+                    }
+                    if (!ready || e == r) {
+                        break;
+                    }
+                    MergeSortedSubscriber<T> min = heads.poll();
+                    T value = min.poll();
+                    pending.offer(min);
+                    child.onNext(value);
+                    e++;
+                }
+                if (e != 0L && r != Long.MAX_VALUE) {
+                    BackpressureUtils.produced(requested, e);
+                }
+                missed = addAndGet(-missed);
+                if (missed == 0) {
+                    break;
+                }
+            }
+        }
+
+        void cancelAll() {
+            for (MergeSortedSubscriber<T> s : subscribers) {
+                s.unsubscribe();
+            }
+        }
+
+        void clear() {
+            heads.clear();
+            pending.clear();
+            for (MergeSortedSubscriber<T> s : subscribers) {
+                s.queue.clear();
+            }
+        }
+    }
+
+    static final class MergeSortedSubscriber<T> extends Subscriber<T> {
+
+        final MergeSortedCoordinator<T> parent;
+        final Queue<Object> queue;
+        final int prefetch;
+        final int limit;
+        int consumed;
+        volatile boolean done;
+
+        MergeSortedSubscriber(MergeSortedCoordinator<T> parent, int prefetch) {
+            this.parent = parent;
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 2);
+            this.queue = new SpscAtomicArrayQueue<>(prefetch);
+        }
+
+        @Override
+        public void onStart() {
+            request(prefetch);
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (!queue.offer(NotificationLite.next(t))) {
+                onError(new MissingBackpressureException());
+                return;
+            }
+            parent.drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            parent.onError(e);
+        }
+
+        @Override
+        public void onCompleted() {
+            done = true;
+            parent.drain();
+        }
+
+        T peek() {
+            return NotificationLite.getValue(queue.peek());
+        }
+
+        T poll() {
+            T value = NotificationLite.getValue(queue.poll());
+            if (++consumed == limit) {
+                consumed = 0;
+                request(limit);
+            }
+            return value;
+        }
+    }
+}
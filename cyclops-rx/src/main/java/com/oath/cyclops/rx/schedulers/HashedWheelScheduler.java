@@ -0,0 +1,346 @@
+package com.oath.cyclops.rx.schedulers;
+
+import rx.Scheduler;
+import rx.Subscription;
+import rx.functions.Action0;
+import rx.plugins.RxJavaHooks;
+import rx.subscriptions.CompositeSubscription;
+import rx.subscriptions.Subscriptions;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An Rx Scheduler backed by a hashed wheel timer, suitable for very large numbers of (mostly cancelled) timers, such as per
+ * entity timeouts.
+ *
+ * Scheduling and cancelling a delayed action are both O(1), at the cost of timers firing only on tick boundaries (so the tick
+ * duration chosen by the caller is the resolution of this Scheduler). All actions run on a single timer thread, so should be
+ * short lived, use observeOn to move heavier work onto another Scheduler.
+ *
+ * <pre>
+ * {@code
+ *   HashedWheelScheduler wheel = new HashedWheelScheduler(10, TimeUnit.MILLISECONDS);
+ *
+ *   Observables.timer(30, TimeUnit.SECONDS, wheel)
+ *              .forEach(t->expire(entity));
+ * }
+ * </pre>
+ */
+public final class HashedWheelScheduler extends Scheduler {
+
+    private static final int INIT = 0;
+    private static final int STARTED = 1;
+    private static final int SHUTDOWN = 2;
+    private static final int MAX_TRANSFERS_PER_TICK = 100000;
+    private static final AtomicInteger threadCount = new AtomicInteger(0);
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<TimedAction> pendingActions = new ConcurrentLinkedQueue<>();
+    private final Queue<TimedAction> cancelledActions = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger(INIT);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final Thread timerThread;
+    private volatile long startTime;
+
+    /**
+     * Create a HashedWheelScheduler with 512 buckets
+     *
+     * @param tickDuration Duration of each tick (the resolution of this Scheduler)
+     * @param unit Time unit of the tick duration
+     */
+    public HashedWheelScheduler(long tickDuration, TimeUnit unit) {
+        this(tickDuration, unit, 512);
+    }
+
+    /**
+     * @param tickDuration Duration of each tick (the resolution of this Scheduler)
+     * @param unit Time unit of the tick duration
+     * @param ticksPerWheel Number of buckets in the wheel (rounded up to a power of 2)
+     */
+    public HashedWheelScheduler(long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        this(tickDuration, unit, ticksPerWheel, r -> {
+            Thread t = new Thread(r, "RxHashedWheelScheduler-" + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * @param tickDuration Duration of each tick (the resolution of this Scheduler)
+     * @param unit Time unit of the tick duration
+     * @param ticksPerWheel Number of buckets in the wheel (rounded up to a power of 2)
+     * @param threadFactory Factory for the timer thread
+     */
+    public HashedWheelScheduler(long tickDuration, TimeUnit unit, int ticksPerWheel, ThreadFactory threadFactory) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be greater than 0: " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30: " + ticksPerWheel);
+        }
+        int size = 1;
+        while (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.timerThread = threadFactory.newThread(this::run);
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new WheelWorker();
+    }
+
+    /**
+     * Stop the timer thread, pending actions are discarded
+     */
+    public void shutdown() {
+        if (state.getAndSet(SHUTDOWN) == STARTED) {
+            LockSupport.unpark(timerThread);
+        }
+    }
+
+    private void start() {
+        int current = state.get();
+        if (current == INIT && state.compareAndSet(INIT, STARTED)) {
+            timerThread.start();
+        } else if (current == SHUTDOWN) {
+            throw new IllegalStateException("HashedWheelScheduler has been shutdown");
+        }
+        while (startTime == 0) {
+            try {
+                started.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private TimedAction schedule(WheelWorker worker, Action0 action, long delay, TimeUnit unit) {
+        start();
+        long deadline = System.nanoTime() + unit.toNanos(Math.max(0, delay)) - startTime;
+        if (delay > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+        TimedAction timed = new TimedAction(worker, RxJavaHooks.onScheduledAction(action), deadline);
+        pendingActions.add(timed);
+        return timed;
+    }
+
+    private void run() {
+        long now = System.nanoTime();
+        startTime = now == 0 ? 1 : now;
+        started.countDown();
+        long tick = 0;
+        while (state.get() == STARTED) {
+            long deadline = waitForNextTick(tick);
+            if (deadline > 0) {
+                removeCancelled();
+                transferPending(tick);
+                wheel[(int) (tick & mask)].expire();
+                tick++;
+            }
+        }
+        for (Bucket bucket : wheel) {
+            bucket.clear();
+        }
+        pendingActions.clear();
+        cancelledActions.clear();
+    }
+
+    private long waitForNextTick(long tick) {
+        long deadline = tickNanos * (tick + 1);
+        for (;;) {
+            long current = System.nanoTime() - startTime;
+            long sleep = deadline - current;
+            if (sleep <= 0) {
+                return current == Long.MIN_VALUE ? -Long.MAX_VALUE : current;
+            }
+            LockSupport.parkNanos(this, sleep);
+            if (state.get() != STARTED) {
+                return Long.MIN_VALUE;
+            }
+        }
+    }
+
+    private void removeCancelled() {
+        TimedAction next;
+        while ((next = cancelledActions.poll()) != null) {
+            if (next.bucket != null) {
+                next.bucket.remove(next);
+            }
+        }
+    }
+
+    private void transferPending(long tick) {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            TimedAction next = pendingActions.poll();
+            if (next == null) {
+                return;
+            }
+            if (next.state.get() != TimedAction.WAITING) {
+                continue;
+            }
+            long calculated = next.deadline / tickNanos;
+            next.remainingRounds = (calculated - tick) / wheel.length;
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(next);
+        }
+    }
+
+    private final class WheelWorker extends Worker {
+
+        private final CompositeSubscription tasks = new CompositeSubscription();
+
+        @Override
+        public Subscription schedule(Action0 action) {
+            return schedule(action, 0, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public Subscription schedule(Action0 action, long delayTime, TimeUnit unit) {
+            if (tasks.isUnsubscribed()) {
+                return Subscriptions.unsubscribed();
+            }
+            TimedAction timed = HashedWheelScheduler.this.schedule(this, action, delayTime, unit);
+            tasks.add(timed);
+            return timed;
+        }
+
+        @Override
+        public void unsubscribe() {
+            tasks.unsubscribe();
+        }
+
+        @Override
+        public boolean isUnsubscribed() {
+            return tasks.isUnsubscribed();
+        }
+    }
+
+    private final class TimedAction implements Subscription {
+
+        static final int WAITING = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED = 2;
+
+        final WheelWorker worker;
+        final Action0 action;
+        final long deadline;
+        final AtomicInteger state = new AtomicInteger(WAITING);
+        long remainingRounds;
+        Bucket bucket;
+        TimedAction next;
+        TimedAction prev;
+
+        TimedAction(WheelWorker worker, Action0 action, long deadline) {
+            this.worker = worker;
+            this.action = action;
+            this.deadline = deadline;
+        }
+
+        void expire() {
+            if (!state.compareAndSet(WAITING, EXPIRED)) {
+                return;
+            }
+            worker.tasks.remove(this);
+            if (worker.isUnsubscribed()) {
+                return;
+            }
+            try {
+                action.call();
+            } catch (Throwable t) {
+                RxJavaHooks.onError(t);
+            }
+        }
+
+        @Override
+        public void unsubscribe() {
+            if (state.compareAndSet(WAITING, CANCELLED)) {
+                cancelledActions.add(this);
+                worker.tasks.remove(this);
+            }
+        }
+
+        @Override
+        public boolean isUnsubscribed() {
+            return state.get() != WAITING;
+        }
+    }
+
+    /**
+     * Doubly linked list of the actions due in a slot of the wheel, only accessed from the timer thread
+     */
+    private final class Bucket {
+
+        private TimedAction head;
+        private TimedAction tail;
+
+        void add(TimedAction action) {
+            action.bucket = this;
+            if (head == null) {
+                head = tail = action;
+            } else {
+                tail.next = action;
+                action.prev = tail;
+                tail = action;
+            }
+        }
+
+        void expire() {
+            TimedAction action = head;
+            while (action != null) {
+                TimedAction next = action.next;
+                if (action.remainingRounds <= 0) {
+                    remove(action);
+                    action.expire();
+                } else if (action.isUnsubscribed()) {
+                    remove(action);
+                } else {
+                    action.remainingRounds--;
+                }
+                action = next;
+            }
+        }
+
+        void remove(TimedAction action) {
+            if (action.bucket != this) {
+                return;
+            }
+            TimedAction next = action.next;
+            if (action.prev != null) {
+                action.prev.next = next;
+            }
+            if (next != null) {
+                next.prev = action.prev;
+            }
+            if (action == head) {
+                head = next;
+            }
+            if (action == tail) {
+                tail = action.prev;
+            }
+            action.prev = null;
+            action.next = null;
+            action.bucket = null;
+        }
+
+        void clear() {
+            head = tail = null;
+        }
+    }
+}
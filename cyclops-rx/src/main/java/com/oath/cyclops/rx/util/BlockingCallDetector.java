@@ -0,0 +1,137 @@
+package com.oath.cyclops.rx.util;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Opt-in detection of blocking terminal operations (e.g. forEach, reduce, collect, firstValue on an Observable backed
+ * ReactiveSeq) being called on an Rx scheduler thread, where they can starve the pool or deadlock.
+ *
+ * Rx computation Scheduler threads and the HashedWheelScheduler timer thread are treated as non-blocking, other threads
+ * (such as event loop threads) can be tagged via {@link #tagCurrentThread()}. Detected calls are counted regardless of mode,
+ * so the count can be exported for production monitoring.
+ *
+ * <pre>
+ * {@code
+ *   BlockingCallDetector.enable(BlockingCallDetector.Mode.FAIL);
+ *
+ *   Observables.interval(1, TimeUnit.SECONDS)
+ *              .map(i->Observables.just(1,2,3).toList()) //throws IllegalStateException on the computation thread
+ * }
+ * </pre>
+ */
+public final class BlockingCallDetector {
+
+    /**
+     * How a detected blocking call is reported
+     */
+    public enum Mode {
+        /**
+         * Detection disabled
+         */
+        OFF,
+        /**
+         * Count and log the call with a stack trace, then allow it to proceed
+         */
+        LOG,
+        /**
+         * Count the call and throw an IllegalStateException
+         */
+        FAIL
+    }
+
+    private static final Logger logger = Logger.getLogger(BlockingCallDetector.class.getName());
+    private static final String[] NON_BLOCKING_THREAD_PREFIXES = { "RxComputationScheduler-", "RxHashedWheelScheduler-" };
+    private static final ThreadLocal<Boolean> tagged = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private static final LongAdder detected = new LongAdder();
+    private static volatile Mode mode = Mode.OFF;
+
+    private BlockingCallDetector() {
+    }
+
+    /**
+     * @param newMode Mode to report blocking calls on Rx scheduler threads with
+     */
+    public static void enable(Mode newMode) {
+        mode = newMode;
+    }
+
+    /**
+     * Stop detecting blocking calls
+     */
+    public static void disable() {
+        mode = Mode.OFF;
+    }
+
+    /**
+     * @return Current detection mode
+     */
+    public static Mode mode() {
+        return mode;
+    }
+
+    /**
+     * @return Number of blocking calls detected on Rx scheduler threads since detection was enabled (or the count was reset)
+     */
+    public static long detectedCount() {
+        return detected.sum();
+    }
+
+    /**
+     * Reset the count of detected blocking calls
+     */
+    public static void resetCount() {
+        detected.reset();
+    }
+
+    /**
+     * Treat the current thread as an Rx scheduler thread on which blocking is not allowed
+     */
+    public static void tagCurrentThread() {
+        tagged.set(Boolean.TRUE);
+    }
+
+    /**
+     * Remove the tag added by {@link #tagCurrentThread()} from the current thread
+     */
+    public static void untagCurrentThread() {
+        tagged.remove();
+    }
+
+    /**
+     * @return true if the current thread is an Rx scheduler thread on which blocking is not allowed
+     */
+    public static boolean isNonBlockingThread() {
+        if (tagged.get()) {
+            return true;
+        }
+        String name = Thread.currentThread().getName();
+        for (String prefix : NON_BLOCKING_THREAD_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Report a blocking operation if detection is enabled and the current thread is an Rx scheduler thread
+     *
+     * @param operation Name of the blocking operation
+     * @throws IllegalStateException In FAIL mode, if called on an Rx scheduler thread
+     */
+    public static void checkBlocking(String operation) {
+        Mode current = mode;
+        if (current == Mode.OFF || !isNonBlockingThread()) {
+            return;
+        }
+        detected.increment();
+        IllegalStateException e = new IllegalStateException("Blocking operation " + operation + " called on Rx scheduler thread "
+                                                            + Thread.currentThread().getName());
+        if (current == Mode.FAIL) {
+            throw e;
+        }
+        logger.log(Level.WARNING, e.getMessage(), e);
+    }
+}
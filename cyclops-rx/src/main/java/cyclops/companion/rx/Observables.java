@@ -2,7 +2,10 @@ package cyclops.companion.rx;
 
 import com.oath.cyclops.anym.AnyMSeq;
 import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import com.oath.cyclops.rx.operators.OnSubscribeMergeSorted;
+import com.oath.cyclops.rx.schedulers.HashedWheelScheduler;
 import cyclops.control.Either;
+import cyclops.data.tuple.Tuple;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
 import cyclops.monads.AnyM;
@@ -21,10 +24,15 @@ import rx.Scheduler;
 import rx.internal.operators.OnSubscribeAmb;
 import rx.internal.operators.OnSubscribeFromArray;
 import rx.internal.operators.OnSubscribeTimerOnce;
+import rx.internal.util.RxRingBuffer;
 import rx.observables.AsyncOnSubscribe;
 import rx.observables.SyncOnSubscribe;
 import rx.schedulers.Schedulers;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -40,6 +48,52 @@ import java.util.stream.Stream;
 @UtilityClass
 public class Observables {
 
+    private static volatile Scheduler timerScheduler = null;
+
+    /**
+     * @return Scheduler used by interval, timer and debounce when no Scheduler is specified (Rx computation Scheduler unless
+     * another has been configured)
+     */
+    public static Scheduler timerScheduler() {
+        Scheduler scheduler = timerScheduler;
+        return scheduler == null ? Schedulers.computation() : scheduler;
+    }
+
+    /**
+     * Configure the Scheduler used by interval, timer and debounce when no Scheduler is specified. A replaced Scheduler is
+     * not shutdown, as streams already scheduled on it may still be running.
+     *
+     * @param scheduler Default timer Scheduler, or null to revert to the Rx computation Scheduler
+     */
+    public static void timerScheduler(Scheduler scheduler) {
+        timerScheduler = scheduler;
+    }
+
+    /**
+     * Use a shared hashed wheel timer for interval, timer and debounce when no Scheduler is specified. Timers are scheduled and
+     * cancelled in O(1) time, making this suitable when very large numbers of timers are created (e.g. per entity timeouts).
+     *
+     * As with {@link #timerScheduler(Scheduler)} a previously configured wheel is not shutdown, as it may still hold pending
+     * timers for running streams. Callers replacing a wheel should shut it down once those streams have completed.
+     *
+     * <pre>
+     * {@code
+     *   Observables.useHashedWheelTimer(10, TimeUnit.MILLISECONDS);
+     *
+     *   Observables.timer(30, TimeUnit.SECONDS); //fires on the wheel, with 10ms resolution
+     * }
+     * </pre>
+     *
+     * @param tickDuration Tick duration (resolution) of the wheel
+     * @param unit Time unit for the tick duration
+     * @return The HashedWheelScheduler now in use
+     */
+    public static HashedWheelScheduler useHashedWheelTimer(long tickDuration, TimeUnit unit) {
+        HashedWheelScheduler wheel = new HashedWheelScheduler(tickDuration, unit);
+        timerScheduler(wheel);
+        return wheel;
+    }
+
 
     public static  <W1 extends WitnessType<W1>,T> XorM<W1,observable,T> xorM(Observable<T> type){
         return XorM.right(anyM(type));
@@ -190,6 +244,53 @@ public class Observables {
 
 
 
+    /**
+     * Share a single subscription to the source Observable between all subscribers to the returned ReactiveSeq, replaying a
+     * bounded number of recent elements to late subscribers. Elements are evicted once there are more than maxElements
+     * retained or they are older than maxAge, so the memory retained is fixed regardless of how long the stream runs.
+     *
+     * The source is connected to on first subscription and remains connected thereafter. Age is measured by the
+     * {@link #timerScheduler()}.
+     *
+     * <pre>
+     * {@code
+     *   ObservableReactiveSeq<Tick> ticks = Observables.cached(prices, 100, 1, TimeUnit.MINUTES);
+     *
+     *   ticks.forEach(dashboard1::show);
+     *   //later subscribers see (up to) the last 100 ticks from the past minute, then live ticks
+     *   ticks.forEach(dashboard2::show);
+     * }
+     * </pre>
+     *
+     * @param source Observable to share
+     * @param maxElements Maximum number of elements to replay to late subscribers
+     * @param maxAge Maximum age of elements replayed to late subscribers
+     * @param unit Time unit for maxAge
+     * @return ReactiveSeq that shares and replays the source
+     */
+    public static <T> ObservableReactiveSeq<T> cached(Observable<T> source, int maxElements, long maxAge, TimeUnit unit) {
+        return cached(source, maxElements, maxAge, unit, timerScheduler());
+    }
+
+    /**
+     * Share a single subscription to the source Observable between all subscribers to the returned ReactiveSeq, replaying a
+     * bounded number of recent elements to late subscribers. Elements are evicted once there are more than maxElements
+     * retained or they are older than maxAge (as measured by the supplied Scheduler).
+     *
+     * @see Observables#cached(Observable, int, long, TimeUnit)
+     *
+     * @param source Observable to share
+     * @param maxElements Maximum number of elements to replay to late subscribers
+     * @param maxAge Maximum age of elements replayed to late subscribers
+     * @param unit Time unit for maxAge
+     * @param scheduler Scheduler that provides the current time for age based eviction
+     * @return ReactiveSeq that shares and replays the source
+     */
+    public static <T> ObservableReactiveSeq<T> cached(Observable<T> source, int maxElements, long maxAge, TimeUnit unit, Scheduler scheduler) {
+        return new ObservableReactiveSeq<>(source.replay(maxElements, maxAge, unit, scheduler)
+                                                 .autoConnect());
+    }
+
     public static <T> ReactiveSeq<T> create(Observable.OnSubscribe<T> f) {
         return reactiveSeq(Observable.create(f));
     }
@@ -264,7 +365,7 @@ public class Observables {
 
 
     public static ReactiveSeq<Long> interval(long interval, TimeUnit unit) {
-        return interval(interval, interval, unit, Schedulers.computation());
+        return interval(interval, interval, unit, timerScheduler());
     }
 
 
@@ -274,7 +375,7 @@ public class Observables {
 
 
     public static ReactiveSeq<Long> interval(long initialDelay, long period, TimeUnit unit) {
-        return interval(initialDelay, period, unit, Schedulers.computation());
+        return interval(initialDelay, period, unit, timerScheduler());
     }
 
 
@@ -336,6 +437,65 @@ public class Observables {
 
 
 
+    /**
+     * Merge Observables that each emit their elements in sorted order (according to the supplied Comparator) into a single
+     * sorted ReactiveSeq. Unlike merge, which interleaves elements in arrival order, the next element emitted is always the
+     * smallest of the current heads of the sources.
+     *
+     * <pre>
+     * {@code
+     *   Observables.mergeSorted(Comparator.naturalOrder(),
+     *                           Observable.just(1,4,7),
+     *                           Observable.just(2,5,8),
+     *                           Observable.just(3,6,9))
+     *              .toList();
+     *   //[1,2,3,4,5,6,7,8,9]
+     * }
+     * </pre>
+     *
+     * @param comparator Comparator the sources are sorted by
+     * @param sources Sorted Observables to merge
+     * @return ReactiveSeq with the elements of all sources in sorted order
+     */
+    @SafeVarargs
+    public static <T> ReactiveSeq<T> mergeSorted(Comparator<? super T> comparator, Observable<? extends T>... sources) {
+        return mergeSorted(comparator, RxRingBuffer.SIZE, sources);
+    }
+
+    /**
+     * Merge Observables that each emit their elements in sorted order (according to the supplied Comparator) into a single
+     * sorted ReactiveSeq. Each source is pre-fetched in parallel up to prefetch elements, and only requested from again as its
+     * elements are emitted downstream.
+     *
+     * @param comparator Comparator the sources are sorted by
+     * @param prefetch Number of elements to request in advance from each source
+     * @param sources Sorted Observables to merge
+     * @return ReactiveSeq with the elements of all sources in sorted order
+     */
+    @SafeVarargs
+    public static <T> ReactiveSeq<T> mergeSorted(Comparator<? super T> comparator, int prefetch, Observable<? extends T>... sources) {
+        return create(new OnSubscribeMergeSorted<T>(sources, comparator, prefetch));
+    }
+
+    /**
+     * Merge Observables that each emit their elements in sorted order (according to the supplied Comparator) into a single
+     * sorted ReactiveSeq.
+     *
+     * @see Observables#mergeSorted(Comparator, int, Observable[])
+     *
+     * @param comparator Comparator the sources are sorted by
+     * @param prefetch Number of elements to request in advance from each source
+     * @param sources Sorted Observables to merge
+     * @return ReactiveSeq with the elements of all sources in sorted order
+     */
+    public static <T> ReactiveSeq<T> mergeSorted(Comparator<? super T> comparator, int prefetch, Iterable<? extends Observable<? extends T>> sources) {
+        List<Observable<? extends T>> list = new ArrayList<>();
+        for (Observable<? extends T> next : sources) {
+            list.add(next);
+        }
+        return create(new OnSubscribeMergeSorted<T>(list.toArray(new Observable[list.size()]), comparator, prefetch));
+    }
+
     public static <T> ReactiveSeq<T> never() {
         return reactiveSeq(Observable.never());
     }
@@ -361,12 +521,12 @@ public class Observables {
 
 
     public static ReactiveSeq<Long> timer(long initialDelay, long period, TimeUnit unit) {
-        return interval(initialDelay, period, unit, Schedulers.computation());
+        return interval(initialDelay, period, unit, timerScheduler());
     }
 
 
     public static ReactiveSeq<Long> timer(long delay, TimeUnit unit) {
-        return timer(delay, unit, Schedulers.computation());
+        return timer(delay, unit, timerScheduler());
     }
 
 
@@ -377,6 +537,91 @@ public class Observables {
 
 
 
+    /**
+     * Only emit an element from the source Observable if the specified timeout has passed without another element being emitted
+     * (uses the default timer Scheduler)
+     *
+     * @see Observables#timerScheduler(Scheduler)
+     *
+     * @param source Observable to debounce
+     * @param timeout Time to wait for the source to go quiet before emitting the latest element
+     * @param unit Time unit for the timeout
+     * @return Debounced ReactiveSeq
+     */
+    public static <T> ReactiveSeq<T> debounce(Observable<T> source, long timeout, TimeUnit unit) {
+        return debounce(source, timeout, unit, timerScheduler());
+    }
+
+    /**
+     * Only emit an element from the source Observable if the specified timeout has passed without another element being emitted
+     *
+     * @param source Observable to debounce
+     * @param timeout Time to wait for the source to go quiet before emitting the latest element
+     * @param unit Time unit for the timeout
+     * @param scheduler Scheduler to run the debounce timers on
+     * @return Debounced ReactiveSeq
+     */
+    public static <T> ReactiveSeq<T> debounce(Observable<T> source, long timeout, TimeUnit unit, Scheduler scheduler) {
+        return reactiveSeq(source.debounce(timeout, unit, scheduler));
+    }
+
+    /**
+     * Resubscribe to the source Observable if it fails, up to times attempts, with an exponentially increasing delay
+     * (starting at backoff, plus a random jitter of up to jitter) between attempts. Implemented with retryWhen, so no thread
+     * is blocked while waiting for the next attempt. Only the delay runs on the supplied Scheduler, retries resubscribe to
+     * the source on the Rx io Scheduler, so a blocking source never runs on a timer thread.
+     *
+     * <pre>
+     * {@code
+     *   Observables.retry(flakyService.call(), 5, 100, 50, TimeUnit.MILLISECONDS, Schedulers.computation());
+     *   //retries after ~100ms, 200ms, 400ms, 800ms & 1600ms (each plus up to 50ms) before failing
+     * }
+     * </pre>
+     *
+     * @param source Observable to retry
+     * @param times Maximum number of retries
+     * @param backoff Delay before the first retry, doubled for each subsequent retry
+     * @param jitter Maximum random delay added to each retry
+     * @param unit Time unit for backoff and jitter
+     * @param scheduler Scheduler to wait for retries on
+     * @return Observable that retries on failure
+     */
+    public static <T> Observable<T> retry(Observable<T> source, int times, long backoff, long jitter, TimeUnit unit, Scheduler scheduler) {
+        return retry(source, times, backoff, jitter, unit, scheduler, Schedulers.io());
+    }
+
+    /**
+     * Resubscribe to the source Observable if it fails, up to times attempts, with an exponentially increasing delay
+     * (starting at backoff, plus a random jitter of up to jitter) between attempts, waiting on one Scheduler and
+     * resubscribing on another.
+     *
+     * @see Observables#retry(Observable, int, long, long, TimeUnit, Scheduler)
+     *
+     * @param source Observable to retry
+     * @param times Maximum number of retries
+     * @param backoff Delay before the first retry, doubled for each subsequent retry
+     * @param jitter Maximum random delay added to each retry
+     * @param unit Time unit for backoff and jitter
+     * @param scheduler Scheduler to wait for retries on
+     * @param resubscribeScheduler Scheduler to resubscribe to the source on for each retry
+     * @return Observable that retries on failure
+     */
+    public static <T> Observable<T> retry(Observable<T> source, int times, long backoff, long jitter, TimeUnit unit,
+                                          Scheduler scheduler, Scheduler resubscribeScheduler) {
+        return source.retryWhen(errors -> errors.zipWith(Observable.range(1, times + 1), Tuple::tuple)
+                                                .flatMap(t -> {
+                                                    if (t._2() > times) {
+                                                        return Observable.<Long>error(t._1());
+                                                    }
+                                                    long delay = backoff << Math.min(t._2() - 1, Long.numberOfLeadingZeros(Math.max(1, backoff)) - 1);
+                                                    if (jitter > 0) {
+                                                        delay += ThreadLocalRandom.current().nextLong(jitter + 1);
+                                                    }
+                                                    return Observable.timer(delay, unit, scheduler)
+                                                                     .observeOn(resubscribeScheduler);
+                                                }));
+    }
+
     /**
      * Construct an AnyM type from an Observable. This allows the Observable to be manipulated according to a standard interface
      * along with a vast array of other Java Monad implementations
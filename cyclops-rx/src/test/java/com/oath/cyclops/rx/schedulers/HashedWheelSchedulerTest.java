@@ -0,0 +1,117 @@
+package com.oath.cyclops.rx.schedulers;
+
+import cyclops.companion.rx.Observables;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Observable;
+import rx.Scheduler;
+import rx.Subscription;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class HashedWheelSchedulerTest {
+
+    HashedWheelScheduler wheel;
+
+    @Before
+    public void setup(){
+        wheel = new HashedWheelScheduler(1, TimeUnit.MILLISECONDS, 64);
+    }
+    @After
+    public void tearDown(){
+        wheel.shutdown();
+        Observables.timerScheduler(null);
+    }
+
+    @Test
+    public void firesAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.currentTimeMillis();
+        wheel.createWorker().schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertThat(System.currentTimeMillis()-start,greaterThanOrEqualTo(49l));
+    }
+
+    @Test
+    public void delayLongerThanOneRotation() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.currentTimeMillis();
+        wheel.createWorker().schedule(latch::countDown, 150, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertThat(System.currentTimeMillis()-start,greaterThanOrEqualTo(149l));
+    }
+
+    @Test
+    public void cancelledActionsDoNotRun() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger(0);
+        Scheduler.Worker worker = wheel.createWorker();
+        for(int i=0;i<10000;i++){
+            Subscription s = worker.schedule(count::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+            s.unsubscribe();
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        worker.schedule(latch::countDown, 40, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertThat(count.get(),equalTo(0));
+    }
+
+    @Test
+    public void unsubscribedWorkerCancelsActions() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger(0);
+        Scheduler.Worker worker = wheel.createWorker();
+        worker.schedule(count::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        worker.unsubscribe();
+
+        Thread.sleep(60);
+        assertThat(count.get(),equalTo(0));
+    }
+
+    @Test
+    public void interval(){
+        List<Long> ticks = Observables.interval(5, TimeUnit.MILLISECONDS, wheel)
+                                      .limit(5)
+                                      .toList();
+        assertThat(ticks.size(),equalTo(5));
+        assertThat(ticks.get(4),equalTo(4l));
+    }
+
+    @Test
+    public void defaultTimerScheduler(){
+        HashedWheelScheduler shared = Observables.useHashedWheelTimer(1, TimeUnit.MILLISECONDS);
+        assertThat(Observables.timerScheduler(),sameInstance(shared));
+        assertThat(Observables.timer(10, TimeUnit.MILLISECONDS).toList().size(),equalTo(1));
+        shared.shutdown();
+    }
+
+    @Test
+    public void replacingTimerKeepsPendingTimers() throws InterruptedException {
+        HashedWheelScheduler first = Observables.useHashedWheelTimer(1, TimeUnit.MILLISECONDS);
+        CountDownLatch latch = new CountDownLatch(1);
+        first.createWorker().schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        HashedWheelScheduler second = Observables.useHashedWheelTimer(1, TimeUnit.MILLISECONDS);
+
+        assertTrue(latch.await(2, TimeUnit.SECONDS));
+        assertThat(Observables.timer(1, TimeUnit.MILLISECONDS, first).toList().size(),equalTo(1));
+        first.shutdown();
+        second.shutdown();
+    }
+
+    @Test
+    public void debounce(){
+        List<Integer> result = Observables.debounce(Observable.just(1,2,3), 10, TimeUnit.MILLISECONDS, wheel)
+                                          .toList();
+        assertThat(result.size(),equalTo(1));
+        assertThat(result.get(0),equalTo(3));
+    }
+}
@@ -0,0 +1,103 @@
+package com.oath.cyclops.rx.util;
+
+import cyclops.companion.rx.Observables;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import rx.Observable;
+import rx.schedulers.Schedulers;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+public class BlockingCallDetectorTest {
+
+    @Before
+    public void setup(){
+        BlockingCallDetector.resetCount();
+    }
+    @After
+    public void tearDown(){
+        BlockingCallDetector.disable();
+        BlockingCallDetector.resetCount();
+    }
+
+    @Test
+    public void offByDefault(){
+        assertThat(Observable.just(1)
+                             .subscribeOn(Schedulers.computation())
+                             .map(i->Observables.just(1,2,3).count())
+                             .toBlocking()
+                             .single(),equalTo(3l));
+        assertThat(BlockingCallDetector.detectedCount(),equalTo(0l));
+    }
+
+    @Test
+    public void failsOnComputationThread(){
+        BlockingCallDetector.enable(BlockingCallDetector.Mode.FAIL);
+        Throwable error = Observable.just(1)
+                                    .subscribeOn(Schedulers.computation())
+                                    .map(i->Observables.just(1,2,3).count())
+                                    .map(i->(Throwable)null)
+                                    .onErrorReturn(e->e)
+                                    .toBlocking()
+                                    .single();
+
+        assertThat(error,instanceOf(IllegalStateException.class));
+        assertThat(BlockingCallDetector.detectedCount(),equalTo(1l));
+    }
+
+    @Test
+    public void iteratorOnComputationThread(){
+        BlockingCallDetector.enable(BlockingCallDetector.Mode.LOG);
+        assertThat(Observable.just(1)
+                             .subscribeOn(Schedulers.computation())
+                             .map(i->{
+                                 int sum = 0;
+                                 for(Integer next : Observables.just(1,2,3))
+                                     sum += next;
+                                 return sum;
+                             })
+                             .toBlocking()
+                             .single(),equalTo(6));
+        assertThat(BlockingCallDetector.detectedCount(),equalTo(1l));
+    }
+
+    @Test
+    public void logsAndCountsOnComputationThread(){
+        BlockingCallDetector.enable(BlockingCallDetector.Mode.LOG);
+        assertThat(Observable.just(1)
+                             .subscribeOn(Schedulers.computation())
+                             .map(i->Observables.just(1,2,3).firstValue(-1))
+                             .toBlocking()
+                             .single(),equalTo(1));
+        assertThat(BlockingCallDetector.detectedCount(),equalTo(1l));
+    }
+
+    @Test
+    public void ignoresOtherThreads(){
+        BlockingCallDetector.enable(BlockingCallDetector.Mode.FAIL);
+        assertThat(Observables.just(1,2,3).foldRight(0,(a,b)->a+b),equalTo(6));
+        assertThat(Observable.just(1)
+                             .subscribeOn(Schedulers.io())
+                             .map(i->Observables.just(1,2,3).count())
+                             .toBlocking()
+                             .single(),equalTo(3l));
+        assertThat(BlockingCallDetector.detectedCount(),equalTo(0l));
+    }
+
+    @Test
+    public void taggedThread(){
+        BlockingCallDetector.enable(BlockingCallDetector.Mode.LOG);
+        BlockingCallDetector.tagCurrentThread();
+        try {
+            Observables.timer(1, TimeUnit.MILLISECONDS).count();
+        }finally {
+            BlockingCallDetector.untagCurrentThread();
+        }
+        assertThat(BlockingCallDetector.detectedCount(),equalTo(1l));
+    }
+}
@@ -1,5 +1,6 @@
 package cyclops.streams.observables;
 
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
 import com.oath.cyclops.util.ExceptionSoftener;
 import cyclops.companion.rx.Observables;
 import cyclops.reactive.ReactiveSeq;
@@ -9,12 +10,16 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import rx.Observable;
+import rx.schedulers.Schedulers;
 
 import java.io.IOException;
 import java.net.SocketException;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static org.hamcrest.Matchers.*;
@@ -124,6 +129,68 @@ public class AsyncRetryTest {
 		assertThat(result, is("42"));
 	}
 
+	@Test
+	public void retryResubscribesWithBackoff() {
+		AtomicInteger subscriptions = new AtomicInteger(0);
+		ObservableReactiveSeq<Integer> seq = new ObservableReactiveSeq<>(Observable.defer(() ->
+				subscriptions.incrementAndGet() < 3 ? Observable.<Integer>error(new IOException()) : Observable.just(1, 2, 3)));
+
+		long time = System.currentTimeMillis();
+		List<Integer> result = seq.retry(5, 50, 10, TimeUnit.MILLISECONDS, Schedulers.computation())
+								  .toList();
+
+		assertThat(result, equalTo(Arrays.asList(1, 2, 3)));
+		assertThat(subscriptions.get(), equalTo(3));
+		assertThat(System.currentTimeMillis() - time, greaterThanOrEqualTo(150l));
+	}
+
+	@Test
+	public void retryGivesUpAfterTimes() {
+		AtomicInteger subscriptions = new AtomicInteger(0);
+		ObservableReactiveSeq<Integer> seq = new ObservableReactiveSeq<>(Observable.defer(() -> {
+			subscriptions.incrementAndGet();
+			return Observable.<Integer>error(new IOException());
+		}));
+
+		assertThat(seq.retry(2, 1, 0, TimeUnit.MILLISECONDS)
+					  .recover(IOException.class, e -> -1)
+					  .toList(), equalTo(Arrays.asList(-1)));
+		assertThat(subscriptions.get(), equalTo(3));
+	}
+
+	@Test
+	public void retryDoesNotBlockCaller() {
+		given(serviceMock.apply(anyInt())).willThrow(
+				new RuntimeException(new SocketException("First"))).willReturn(
+				"42");
+
+		long time = System.currentTimeMillis();
+		ReactiveSeq<String> seq = Observables.just(1)
+											 .retry(serviceMock, 7, 500, TimeUnit.MILLISECONDS);
+		seq.forEachAsync(s -> {});
+		assertThat(System.currentTimeMillis() - time, lessThan(500l));
+	}
+
+	@Test
+	public void retryRunsFunctionOffTimerThreads() {
+		List<String> threads = new java.util.concurrent.CopyOnWriteArrayList<>();
+		AtomicInteger attempts = new AtomicInteger(0);
+		String result = Observables.just(1)
+								   .retry(i -> {
+									   threads.add(Thread.currentThread().getName());
+									   if (attempts.incrementAndGet() < 3)
+										   throw new RuntimeException(new IOException());
+									   return "42";
+								   }, 5, 1, TimeUnit.MILLISECONDS)
+								   .firstValue(null);
+
+		assertThat(result, is("42"));
+		assertThat(threads.size(), equalTo(3));
+		for (String thread : threads.subList(1, 3)) {
+			assertThat(thread, startsWith("RxIoScheduler"));
+		}
+	}
+
 	private CompletableFuture<String> failedAsync(Throwable throwable) {
 		final CompletableFuture<String> future = new CompletableFuture<>();
 		future.completeExceptionally(throwable);
@@ -0,0 +1,90 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.adapter.ObservableReactiveSeq;
+import cyclops.companion.rx.Observables;
+import org.junit.Test;
+import rx.Observable;
+import rx.schedulers.TestScheduler;
+import rx.subjects.PublishSubject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+public class CachedTest {
+
+    @Test
+    public void sharesOneSubscription(){
+        AtomicInteger subscriptions = new AtomicInteger(0);
+        ObservableReactiveSeq<Integer> cached = Observables.cached(Observable.just(1,2,3)
+                                                                             .doOnSubscribe(subscriptions::incrementAndGet),
+                                                                   10, 1, TimeUnit.MINUTES);
+
+        assertThat(cached.toList(),equalTo(Arrays.asList(1,2,3)));
+        assertThat(cached.toList(),equalTo(Arrays.asList(1,2,3)));
+        assertThat(subscriptions.get(),equalTo(1));
+    }
+
+    @Test
+    public void lateSubscribersReplayMostRecent(){
+        PublishSubject<Integer> subject = PublishSubject.create();
+        TestScheduler scheduler = new TestScheduler();
+        ObservableReactiveSeq<Integer> cached = Observables.cached(subject, 3, 1, TimeUnit.MINUTES, scheduler);
+
+        List<Integer> early = new ArrayList<>();
+        cached.forEachAsync(early::add);
+        for(int i=0;i<10;i++)
+            subject.onNext(i);
+
+        List<Integer> late = new ArrayList<>();
+        cached.forEachAsync(late::add);
+        subject.onNext(10);
+
+        assertThat(early.size(),equalTo(11));
+        assertThat(late,equalTo(Arrays.asList(7,8,9,10)));
+    }
+
+    @Test
+    public void evictsByAge(){
+        PublishSubject<Integer> subject = PublishSubject.create();
+        TestScheduler scheduler = new TestScheduler();
+        ObservableReactiveSeq<Integer> cached = Observables.cached(subject, 100, 10, TimeUnit.SECONDS, scheduler);
+
+        cached.forEachAsync(i->{});
+        subject.onNext(1);
+        scheduler.advanceTimeBy(20, TimeUnit.SECONDS);
+        subject.onNext(2);
+
+        List<Integer> late = new ArrayList<>();
+        cached.forEachAsync(late::add);
+
+        assertThat(late,equalTo(Arrays.asList(2)));
+    }
+
+    @Test
+    public void evictsByAgeOnTimerScheduler(){
+        PublishSubject<Integer> subject = PublishSubject.create();
+        TestScheduler scheduler = new TestScheduler();
+        Observables.timerScheduler(scheduler);
+        try {
+            ObservableReactiveSeq<Integer> cached = Observables.cached(subject, 100, 10, TimeUnit.SECONDS);
+
+            cached.forEachAsync(i->{});
+            subject.onNext(1);
+            scheduler.advanceTimeBy(20, TimeUnit.SECONDS);
+            subject.onNext(2);
+
+            List<Integer> late = new ArrayList<>();
+            cached.forEachAsync(late::add);
+
+            assertThat(late,equalTo(Arrays.asList(2)));
+        } finally {
+            Observables.timerScheduler(null);
+        }
+    }
+}
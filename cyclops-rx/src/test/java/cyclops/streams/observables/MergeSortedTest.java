@@ -0,0 +1,90 @@
+package cyclops.streams.observables;
+
+import com.oath.cyclops.rx.operators.OnSubscribeMergeSorted;
+import cyclops.companion.rx.Observables;
+import org.junit.Test;
+import rx.Observable;
+import rx.observers.TestSubscriber;
+import rx.schedulers.Schedulers;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class MergeSortedTest {
+
+    @Test
+    public void mergesInOrder(){
+        assertThat(Observables.mergeSorted(Comparator.<Integer>naturalOrder(),
+                                           Observable.just(1,4,7),
+                                           Observable.just(2,5,8),
+                                           Observable.just(3,6,9))
+                              .toList(),equalTo(Arrays.asList(1,2,3,4,5,6,7,8,9)));
+    }
+
+    @Test
+    public void unevenAndEmptySources(){
+        assertThat(Observables.mergeSorted(Comparator.<Integer>naturalOrder(),
+                                           Observable.just(1,2,3,10,11),
+                                           Observable.<Integer>empty(),
+                                           Observable.just(4))
+                              .toList(),equalTo(Arrays.asList(1,2,3,4,10,11)));
+    }
+
+    @Test
+    public void noSources(){
+        assertThat(Observables.<Integer>mergeSorted(Comparator.naturalOrder()).toList().size(),equalTo(0));
+    }
+
+    @Test
+    public void reverseComparator(){
+        assertThat(Observables.mergeSorted(Comparator.<Integer>reverseOrder(),
+                                           Observable.just(9,5,1),
+                                           Observable.just(8,4))
+                              .toList(),equalTo(Arrays.asList(9,8,5,4,1)));
+    }
+
+    @Test
+    public void asyncSources(){
+        List<Integer> result = Observables.mergeSorted(Comparator.<Integer>naturalOrder(),2,
+                                           Arrays.asList(Observable.range(0,500).map(i->i*2).subscribeOn(Schedulers.io()),
+                                                         Observable.range(0,500).map(i->i*2+1).subscribeOn(Schedulers.computation())))
+                              .toList();
+        assertThat(result.size(),equalTo(1000));
+        for(int i=0;i<1000;i++)
+            assertThat(result.get(i),equalTo(i));
+    }
+
+    @Test
+    public void requestsOnlyPrefetch(){
+        AtomicInteger emitted = new AtomicInteger(0);
+        TestSubscriber<Integer> sub = new TestSubscriber<>(1l);
+        Observable.create(new OnSubscribeMergeSorted<Integer>(
+                                new Observable[]{Observable.range(0,1000).doOnNext(i->emitted.incrementAndGet()), Observable.range(0,1000)},
+                                Comparator.naturalOrder(),4))
+                  .subscribe(sub);
+
+        sub.assertValues(0);
+        assertThat(emitted.get(),lessThanOrEqualTo(4));
+    }
+
+    @Test
+    public void errorPropagated(){
+        TestSubscriber<Integer> sub = new TestSubscriber<>();
+        Observable.create(new OnSubscribeMergeSorted<Integer>(
+                                new Observable[]{Observable.just(1,2), Observable.<Integer>error(new IOException())},
+                                Comparator.naturalOrder(),16))
+                  .subscribe(sub);
+        sub.awaitTerminalEvent(1, TimeUnit.SECONDS);
+        sub.assertError(IOException.class);
+        assertTrue(sub.getOnNextEvents().isEmpty());
+    }
+}
@@ -2,6 +2,7 @@ package cyclops;
 
 import com.oath.cyclops.data.collections.extensions.CollectionX;
 import com.oath.cyclops.types.foldable.To;
+import com.oath.cyclops.types.persistent.PersistentMap;
 import cyclops.collections.vavr.*;
 import io.vavr.Tuple2;
 import io.vavr.collection.*;
@@ -27,7 +28,7 @@ import java.util.function.Function;
 public interface VavrConverters {
 
   public static <T> cyclops.control.Option<T> toCyclopsOption(Option<T> opt){
-    return opt.map(s->cyclops.control.Option.some(s)).getOrElse(cyclops.control.Option.none());
+    return opt.isDefined() ? cyclops.control.Option.some(opt.get()) : cyclops.control.Option.none();
   }
   public static <K, V> cyclops.data.tuple.Tuple2<K,V> toCyclopsTuple2(Tuple2<K, V> t) {
     return cyclops.data.tuple.Tuple.tuple(t._1(),t._2());
@@ -48,6 +49,13 @@ public interface VavrConverters {
                     return set.unwrap();
                 });
     }
+    public static BitSet<Integer> BitSet(CollectionX<Integer> vec){
+        return vec.unwrapNested(BitSet.class,
+                ()-> {
+                    VavrBitSetX set = VavrBitSetX.copyFromCollection(vec).unwrap();
+                    return set.unwrap();
+                });
+    }
     public static <T> TreeSet<T> TreeSet(CollectionX<T> vec, Comparator<T> comp) {
         return vec.unwrapNested(TreeSet.class,
                 () -> {
@@ -82,4 +90,22 @@ public interface VavrConverters {
                 });
     }
 
+    public static <T> Array<T> Array(CollectionX<T> vec){
+        return vec.unwrapNested(Array.class,
+                ()-> {
+                    VavrArrayX<T> array =  VavrArrayX.copyFromCollection(vec).unwrap();
+                    return array.unwrap();
+                });
+    }
+
+    public static <K, V> HashMap<K, V> HashMap(PersistentMap<K, V> map){
+        return VavrHashMapX.copyFromMap(map).unwrap();
+    }
+    public static <K, V> TreeMap<K, V> TreeMap(PersistentMap<K, V> map, Comparator<? super K> comp){
+        return VavrTreeMapX.copyFromMap(map, comp).unwrap();
+    }
+    public static <K extends Comparable<? super K>, V> TreeMap<K, V> TreeMap(PersistentMap<K, V> map){
+        return TreeMap(map, TreeMap.<K, V>empty().comparator());
+    }
+
 }
@@ -1,10 +1,12 @@
 package cyclops;
 
 import com.oath.cyclops.types.persistent.PersistentList;
+import com.oath.cyclops.types.persistent.PersistentMap;
 import com.oath.cyclops.types.persistent.PersistentQueue;
 import com.oath.cyclops.types.persistent.PersistentSet;
 import com.oath.cyclops.types.persistent.PersistentSortedSet;
 import cyclops.collections.vavr.*;
+import cyclops.data.tuple.Tuple2;
 import cyclops.function.Reducer;
 
 
@@ -50,6 +52,25 @@ public class VavrTypes {
         return VavrVectorX.toPersistentList();
     }
 
+    /**
+     * Use to set the type of a VectorX to Vavr Array, for read heavy data with O(1) indexed access
+     * <pre>
+     *     {@code
+     *     Array<Integer> list = VectorX.of(1,2,3)
+                                        .type(VavrTypes.array())
+                                        .map(i->i*2)
+                                        .to(VavrConverters::Array);
+     *     }
+     *
+     * </pre>
+     *
+     * @param <T> Data type
+     * @return Reducer to convert a sequence of data to a Vavr Array that implements PersistentList interface
+     */
+    public static <T> Reducer<PersistentList<T>,T> array() {
+        return VavrArrayX.toPersistentList();
+    }
+
     /**
      * Use to set the type of a QueueX to Vavr Queue
      * <pre>
@@ -109,5 +130,55 @@ public class VavrTypes {
         return VavrHashSetX.toPersistentSet();
     }
 
+    /**
+     * Use to set the type of a PersistentSetX of non-negative Integers to Vavr BitSet
+     * <pre>
+     *     {@code
+     *     BitSet<Integer> set =  PersistentSetX.of(1,2,3)
+     *                                          .type(VavrTypes.bitSet())
+     *                                          .map(i->i*2)
+     *                                          .to(VavrConverters::BitSet);
+     *     }
+     *
+     * </pre>
+     *
+     * @return Reducer to convert a sequence of Integers to a Vavr BitSet that implements PSet interface
+     */
+    public static Reducer<PersistentSet<Integer>,Integer> bitSet() {
+        return VavrBitSetX.toPersistentSet();
+    }
+
+    /**
+     * Use to collect a sequence of key / value pairs into a Vavr HashMap
+     * <pre>
+     *     {@code
+     *     PersistentMap<Integer,String> map =  VavrTypes.<Integer,String>hashMap()
+     *                                                   .mapReduce(Stream.of(Tuple.tuple(1,"a"),Tuple.tuple(2,"b")));
+     *     HashMap<Integer,String> vavr = VavrConverters.HashMap(map);
+     *     }
+     *
+     * </pre>
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return Reducer to convert a sequence of data to a Vavr HashMap that implements PersistentMap interface
+     */
+    public static <K,V> Reducer<PersistentMap<K,V>,Tuple2<K,V>> hashMap() {
+        return VavrHashMapX.toPersistentMap();
+    }
+
+    /**
+     * Use to collect a sequence of key / value pairs into a Vavr TreeMap
+     *
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return Reducer to convert a sequence of data to a Vavr TreeMap that implements PersistentMap interface
+     */
+    public static <K,V> Reducer<PersistentMap<K,V>,Tuple2<K,V>> treeMap(Comparator<? super K> ordering) {
+        return VavrTreeMapX.toPersistentMap(ordering);
+    }
+    public static <K extends Comparable<? super K>,V> Reducer<PersistentMap<K,V>,Tuple2<K,V>> treeMap() {
+        return VavrTreeMapX.toPersistentMap();
+    }
 
 }
@@ -0,0 +1,90 @@
+package cyclops.collections.vavr;
+
+import cyclops.function.Reducer;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A Reducer that materializes a Stream by buffering its elements into a growable array, and then building the target
+ * collection from that buffer in a single bulk operation (e.g. Vector.ofAll), rather than converting every element to a
+ * singleton collection and combining them one at a time.
+ *
+ * The Monoid operations are retained, so the Reducer can still be used to combine existing collections.
+ *
+ * @param <C> Collection type
+ * @param <T> Element type
+ */
+final class BulkReducer<C, T> implements Reducer<C, T> {
+
+  private final C zero;
+  private final BinaryOperator<C> combiner;
+  private final Function<? super T, C> conversion;
+  private final Function<? super java.util.List<T>, C> builder;
+
+  private BulkReducer(C zero, BinaryOperator<C> combiner, Function<? super T, C> conversion,
+                      Function<? super java.util.List<T>, C> builder) {
+    this.zero = zero;
+    this.combiner = combiner;
+    this.conversion = conversion;
+    this.builder = builder;
+  }
+
+  /**
+   * @param zero       Empty collection
+   * @param combiner   Combines two collections
+   * @param conversion Converts a single element to a collection
+   * @param builder    Builds a collection from all elements in encounter order
+   * @return Reducer that builds its result once from a buffer of all elements
+   */
+  static <C, T> BulkReducer<C, T> of(C zero, BinaryOperator<C> combiner, Function<? super T, C> conversion,
+                                     Function<? super java.util.List<T>, C> builder) {
+    return new BulkReducer<>(zero, combiner, conversion, builder);
+  }
+
+  static <T> ArrayList<T> buffer(Stream<T> stream) {
+    Spliterator<T> split = stream.spliterator();
+    long size = split.getExactSizeIfKnown();
+    ArrayList<T> buffer = new ArrayList<>(size < 0 || size > Integer.MAX_VALUE - 8 ? 16 : (int) size);
+    split.forEachRemaining(buffer::add);
+    return buffer;
+  }
+
+  static <T> ArrayList<T> buffer(Iterator<? extends T> it) {
+    ArrayList<T> buffer = new ArrayList<>();
+    while (it.hasNext()) {
+      buffer.add(it.next());
+    }
+    return buffer;
+  }
+
+  C build(Iterator<? extends T> it) {
+    ArrayList<T> buffer = buffer(it);
+    return buffer.isEmpty() ? zero : builder.apply(buffer);
+  }
+
+  @Override
+  public C mapReduce(Stream<T> stream) {
+    ArrayList<T> buffer = buffer(stream);
+    return buffer.isEmpty() ? zero : builder.apply(buffer);
+  }
+
+  @Override
+  public C zero() {
+    return zero;
+  }
+
+  @Override
+  public C apply(C a, C b) {
+    return combiner.apply(a, b);
+  }
+
+  @Override
+  public Function<? super T, C> conversion() {
+    return conversion;
+  }
+}
@@ -0,0 +1,52 @@
+package cyclops.collections.vavr;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Lazily computed hash code of an immutable vavr collection, held by the Vavr*X wrappers in an initialized final field
+ * (so it stays out of their Lombok generated constructors and withers).
+ *
+ * As with String#hashCode the cache is a single int with 0 meaning 'not computed yet', so racing threads at worst
+ * compute the same value twice.
+ */
+final class CachedHash {
+
+  private int hash;
+
+  int get(Object collection) {
+    int h = hash;
+    if (h == 0) {
+      h = collection.hashCode();
+      hash = h;
+    }
+    return h;
+  }
+
+  /**
+   * @return false only if both hashes have already been computed and differ
+   */
+  boolean mayEqual(CachedHash other) {
+    return hash == 0 || other.hash == 0 || hash == other.hash;
+  }
+
+  static boolean sameOrder(Iterable<?> a, Iterable<?> b) {
+    Iterator<?> it = b.iterator();
+    for (Object next : a) {
+      if (!it.hasNext() || !Objects.equals(next, it.next())) {
+        return false;
+      }
+    }
+    return !it.hasNext();
+  }
+
+  static boolean containsAll(Predicate<Object> contains, Iterable<?> b) {
+    for (Object next : b) {
+      if (!contains.test(next)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
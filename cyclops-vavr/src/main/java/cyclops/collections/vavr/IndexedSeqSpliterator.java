@@ -0,0 +1,93 @@
+package cyclops.collections.vavr;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import io.vavr.collection.IndexedSeq;
+import io.vavr.collection.TreeSet;
+
+/**
+ * A SIZED / SUBSIZED Spliterator over an index range of a vavr IndexedSeq (Vector, Array), splitting in half by index
+ * without copying.
+ */
+final class IndexedSeqSpliterator<T> implements Spliterator<T> {
+
+  private final IndexedSeq<T> seq;
+  private final int characteristics;
+  private final Comparator<? super T> comparator;
+  private int index;
+  private final int fence;
+
+  private static final Comparator<?> VAVR_NATURAL_ORDER = TreeSet.<Integer>empty().comparator();
+
+  IndexedSeqSpliterator(IndexedSeq<T> seq, int characteristics, Comparator<? super T> comparator) {
+    this(seq, 0, seq.size(), characteristics, sortedBy(comparator));
+  }
+
+  /**
+   * @return null for natural ordering (as getComparator must report it), otherwise the supplied comparator
+   */
+  static <T> Comparator<? super T> sortedBy(Comparator<? super T> comparator) {
+    if (VAVR_NATURAL_ORDER.equals(comparator) || Comparator.naturalOrder().equals(comparator)) {
+      return null;
+    }
+    return comparator;
+  }
+
+  private IndexedSeqSpliterator(IndexedSeq<T> seq, int index, int fence, int characteristics,
+                                Comparator<? super T> comparator) {
+    this.seq = seq;
+    this.index = index;
+    this.fence = fence;
+    this.characteristics = characteristics | SIZED | SUBSIZED;
+    this.comparator = comparator;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (index < fence) {
+      action.accept(seq.get(index++));
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    int end = fence;
+    for (int i = index; i < end; i++) {
+      action.accept(seq.get(i));
+    }
+    index = end;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    int mid = (index + fence) >>> 1;
+    if (mid <= index) {
+      return null;
+    }
+    Spliterator<T> prefix = new IndexedSeqSpliterator<>(seq, index, mid, characteristics, comparator);
+    index = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return fence - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return characteristics;
+  }
+
+  @Override
+  public Comparator<? super T> getComparator() {
+    if (hasCharacteristics(SORTED)) {
+      return comparator;
+    }
+    throw new IllegalStateException();
+  }
+}
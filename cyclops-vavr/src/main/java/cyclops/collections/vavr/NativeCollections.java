@@ -0,0 +1,50 @@
+package cyclops.collections.vavr;
+
+import com.oath.cyclops.types.Unwrapable;
+import io.vavr.collection.Seq;
+import io.vavr.collection.Set;
+
+/**
+ * Locates the vavr collection backing an Iterable, so bulk operations between Vavr*X instances (including the lazy
+ * collection extensions that wrap them) can be passed straight to vavr's native bulk operations, rather than walking the
+ * wrapper element by element.
+ */
+final class NativeCollections {
+
+  private NativeCollections() {
+  }
+
+  /**
+   * @param iterable Iterable that may wrap a vavr collection (e.g. a VavrVectorX, or a LazyPVectorX backed by one)
+   * @param type     Native vavr collection type
+   * @return The backing collection if it is an instance of type, otherwise null
+   */
+  @SuppressWarnings("unchecked")
+  static <C> C unwrap(Iterable<?> iterable, Class<?> type) {
+    Object current = iterable;
+    while (!type.isInstance(current) && current instanceof Unwrapable) {
+      Object next = ((Unwrapable) current).unwrap();
+      if (next == current) {
+        break;
+      }
+      current = next;
+    }
+    return type.isInstance(current) ? (C) current : null;
+  }
+
+  /**
+   * Only a vavr collection of the same shape as the Iterable is returned : a Seq or a Set, whose elements are the
+   * Iterable's elements. Other vavr Traversables are not, as their elements may differ (a vavr Map is a Traversable of
+   * vavr Tuple2s, whereas a VavrHashMapX iterates cyclops Tuple2s).
+   *
+   * @return The backing vavr Seq or Set if there is one, otherwise the Iterable itself
+   */
+  static <T> Iterable<? extends T> nativeOrSelf(Iterable<? extends T> iterable) {
+    Iterable<? extends T> seq = unwrap(iterable, Seq.class);
+    if (seq != null) {
+      return seq;
+    }
+    Iterable<? extends T> set = unwrap(iterable, Set.class);
+    return set == null ? iterable : set;
+  }
+}
@@ -0,0 +1,84 @@
+package cyclops.collections.vavr;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import io.vavr.collection.Array;
+import io.vavr.collection.Iterator;
+
+/**
+ * A SIZED / SUBSIZED Spliterator for the vavr trees (TreeSet, HashSet), whose nodes are not public and so can't be
+ * split directly.
+ *
+ * Sequential traversal walks the tree iterator. The first trySplit copies the remaining elements into a vavr Array
+ * (a single pass) and from then on splits that by index, so parallel streams get balanced, exactly sized halves.
+ */
+final class SnapshotSpliterator<T> implements Spliterator<T> {
+
+  private final Iterator<T> iterator;
+  private final int characteristics;
+  private final Comparator<? super T> comparator;
+  private long remaining;
+  private IndexedSeqSpliterator<T> snapshot;
+
+  SnapshotSpliterator(Iterator<T> iterator, int size, int characteristics, Comparator<? super T> comparator) {
+    this.iterator = iterator;
+    this.remaining = size;
+    this.characteristics = characteristics | SIZED | SUBSIZED;
+    this.comparator = IndexedSeqSpliterator.sortedBy(comparator);
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super T> action) {
+    if (snapshot != null) {
+      return snapshot.tryAdvance(action);
+    }
+    if (iterator.hasNext()) {
+      remaining--;
+      action.accept(iterator.next());
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super T> action) {
+    if (snapshot != null) {
+      snapshot.forEachRemaining(action);
+      return;
+    }
+    iterator.forEachRemaining(action);
+    remaining = 0;
+  }
+
+  @Override
+  public Spliterator<T> trySplit() {
+    if (snapshot == null) {
+      if (remaining < 2) {
+        return null;
+      }
+      snapshot = new IndexedSeqSpliterator<>(Array.ofAll(iterator), characteristics, comparator);
+      remaining = 0;
+    }
+    return snapshot.trySplit();
+  }
+
+  @Override
+  public long estimateSize() {
+    return snapshot != null ? snapshot.estimateSize() : remaining;
+  }
+
+  @Override
+  public int characteristics() {
+    return characteristics;
+  }
+
+  @Override
+  public Comparator<? super T> getComparator() {
+    if (hasCharacteristics(SORTED)) {
+      return comparator;
+    }
+    throw new IllegalStateException();
+  }
+}
@@ -0,0 +1,258 @@
+package cyclops.collections.vavr;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+import com.oath.cyclops.data.collections.extensions.CollectionX;
+import com.oath.cyclops.data.collections.extensions.lazy.immutable.LazyPVectorX;
+import com.oath.cyclops.types.Unwrapable;
+import com.oath.cyclops.types.foldable.Evaluation;
+import com.oath.cyclops.types.persistent.PersistentList;
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple2;
+import cyclops.function.Reducer;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.collections.immutable.VectorX;
+import io.vavr.collection.Array;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.experimental.Wither;
+
+/**
+ * A PersistentList backed by a vavr Array, for read heavy data : indexed access is O(1) and iteration walks a single
+ * contiguous array, but every update copies the whole array (use VavrVectorX for data that changes often).
+ *
+ * getOrElse / getOrElseGet read the array directly, without allocating an Option.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VavrArrayX<T> implements PersistentList<T>, Unwrapable {
+
+  public static <T> VectorX<T> arrayX(ReactiveSeq<T> stream) {
+    return fromStream(stream);
+  }
+
+  @Override
+  public <R> R unwrap() {
+    return (R) array;
+  }
+
+  public static <T> VectorX<T> copyFromCollection(CollectionX<T> vec) {
+    return fromPersistentList(VavrArrayX.<T>bulkReducer().build(vec.iterator()), toPersistentList());
+  }
+
+  /**
+   * Create a LazyPVectorX backed by a vavr Array from a Stream
+   *
+   * @param stream to construct a LazyPVectorX from
+   * @return LazyPVectorX
+   */
+  public static <T> LazyPVectorX<T> fromStream(Stream<T> stream) {
+    return new LazyPVectorX<T>(null, ReactiveSeq.fromStream(stream), toPersistentList(), Evaluation.LAZY);
+  }
+
+  /**
+   * Create a LazyPVectorX that contains the Integers between start and end
+   *
+   * @param start Number of range to start from
+   * @param end   Number for range to end at
+   * @return Range LazyPVectorX
+   */
+  public static LazyPVectorX<Integer> range(int start, int end) {
+    return fromStream(ReactiveSeq.range(start, end));
+  }
+
+  /**
+   * Unfold a function into a LazyPVectorX
+   *
+   * @param seed     Initial value
+   * @param unfolder Iteratively applied function, terminated by an empty Optional
+   * @return LazyPVectorX generated by unfolder function
+   */
+  public static <U, T> LazyPVectorX<T> unfold(U seed, Function<? super U, Option<Tuple2<T, U>>> unfolder) {
+    return fromStream(ReactiveSeq.unfold(seed, unfolder));
+  }
+
+  /**
+   * Generate a LazyPVectorX from the provided Supplier up to the provided limit number of times
+   *
+   * @param limit Max number of elements to generate
+   * @param s     Supplier to generate elements
+   * @return LazyPVectorX generated from the provided Supplier
+   */
+  public static <T> LazyPVectorX<T> generate(long limit, Supplier<T> s) {
+    return fromStream(ReactiveSeq.generate(s)
+      .limit(limit));
+  }
+
+  /**
+   * Create a LazyPVectorX by iterative application of a function to an initial element up to the supplied limit number of times
+   *
+   * @param limit Max number of elements to generate
+   * @param seed  Initial element
+   * @param f     Iteratively applied to each element to generate the next element
+   * @return LazyPVectorX generated by iterative application
+   */
+  public static <T> LazyPVectorX<T> iterate(long limit, final T seed, final UnaryOperator<T> f) {
+    return fromStream(ReactiveSeq.iterate(seed, f)
+      .limit(limit));
+  }
+
+  /**
+   * <pre>
+   * {@code
+   * PersistentList<Integer> q = VavrArrayX.<Integer>toPersistentList()
+   *                                       .mapReduce(Stream.of(1,2,3,4));
+   *
+   * }
+   * </pre>
+   * Elements are buffered and the Array built once (via Array.ofAll)
+   *
+   * @return Reducer for PersistentList
+   */
+  public static <T> Reducer<PersistentList<T>, T> toPersistentList() {
+    return bulkReducer();
+  }
+
+  private static <T> BulkReducer<PersistentList<T>, T> bulkReducer() {
+    return BulkReducer.<PersistentList<T>, T>of(VavrArrayX.emptyPersistentList(), (a, b) -> a.plusAll(b),
+      x -> new VavrArrayX<>(Array.of(x)), all -> new VavrArrayX<>(Array.ofAll(all)));
+  }
+
+  public static <T> VavrArrayX<T> emptyPersistentList() {
+    return new VavrArrayX<>(Array.empty());
+  }
+
+  public static <T> LazyPVectorX<T> empty() {
+    return fromPersistentList(new VavrArrayX<>(Array.empty()), toPersistentList());
+  }
+
+  private static <T> LazyPVectorX<T> fromPersistentList(PersistentList<T> array, Reducer<PersistentList<T>, T> reducer) {
+    return new LazyPVectorX<T>(array, null, reducer, Evaluation.LAZY);
+  }
+
+  public static <T> LazyPVectorX<T> singleton(T t) {
+    return fromPersistentList(new VavrArrayX<>(Array.of(t)), toPersistentList());
+  }
+
+  @SafeVarargs
+  public static <T> LazyPVectorX<T> of(T... t) {
+    return fromPersistentList(new VavrArrayX<>(Array.of(t)), toPersistentList());
+  }
+
+  public static <T> LazyPVectorX<T> ofAll(Array<T> t) {
+    return fromPersistentList(new VavrArrayX<>(t), toPersistentList());
+  }
+
+  public static <T> LazyPVectorX<T> from(Array<T> q) {
+    return ofAll(q);
+  }
+
+  @Wither
+  private final Array<T> array;
+  private final CachedHash hash = new CachedHash();
+
+  @Override
+  public VavrArrayX<T> plus(T e) {
+    return withArray(array.append(e));
+  }
+
+  @Override
+  public VavrArrayX<T> plusAll(Iterable<? extends T> list) {
+    return withArray(array.appendAll(NativeCollections.nativeOrSelf(list)));
+  }
+
+  @Override
+  public VavrArrayX<T> updateAt(int i, T e) {
+    return withArray(array.update(i, e));
+  }
+
+  @Override
+  public VavrArrayX<T> insertAt(int i, T e) {
+    return withArray(array.insert(i, e));
+  }
+
+  @Override
+  public VavrArrayX<T> insertAt(int i, Iterable<? extends T> list) {
+    return withArray(array.insertAll(i, NativeCollections.nativeOrSelf(list)));
+  }
+
+  @Override
+  public VavrArrayX<T> removeValue(T e) {
+    return withArray(array.remove(e));
+  }
+
+  @Override
+  public VavrArrayX<T> removeAll(Iterable<? extends T> list) {
+    return withArray(array.removeAll(NativeCollections.nativeOrSelf(list)));
+  }
+
+  @Override
+  public VavrArrayX<T> removeAt(int i) {
+    return withArray(array.removeAt(i));
+  }
+
+  @Override
+  public Option<T> get(int index) {
+    if (index >= 0 && index < array.size())
+      return Option.some(array.get(index));
+    return Option.none();
+  }
+
+  @Override
+  public T getOrElse(int index, T alt) {
+    if (index >= 0 && index < array.size())
+      return array.get(index);
+    return alt;
+  }
+
+  @Override
+  public T getOrElseGet(int index, Supplier<? extends T> alt) {
+    if (index >= 0 && index < array.size())
+      return array.get(index);
+    return alt.get();
+  }
+
+  @Override
+  public int size() {
+    return array.size();
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return array.iterator();
+  }
+
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexedSeqSpliterator<>(array, Spliterator.ORDERED | Spliterator.IMMUTABLE, null);
+  }
+
+  @Override
+  public String toString() {
+    return "VavrArrayX[" + array + ']';
+  }
+
+  @Override
+  public boolean equals(Object o) {
+
+    if (this == o) return true;
+    if (o instanceof VavrArrayX) {
+      VavrArrayX<?> x = (VavrArrayX<?>) o;
+      return array.size() == x.array.size() && hash.mayEqual(x.hash) && array.equals(x.array);
+    }
+    if (o instanceof PersistentList) {
+      PersistentList<?> x = (PersistentList<?>) o;
+      return size() == x.size() && CachedHash.sameOrder(array, x);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash.get(array);
+  }
+}
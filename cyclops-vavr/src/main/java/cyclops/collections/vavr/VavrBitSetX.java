@@ -0,0 +1,228 @@
+package cyclops.collections.vavr;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import com.oath.cyclops.data.collections.extensions.CollectionX;
+import com.oath.cyclops.data.collections.extensions.lazy.immutable.LazyPSetX;
+import com.oath.cyclops.types.Unwrapable;
+import com.oath.cyclops.types.foldable.Evaluation;
+import com.oath.cyclops.types.persistent.PersistentSet;
+import cyclops.function.Reducer;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.collections.immutable.PersistentSetX;
+import io.vavr.collection.BitSet;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.experimental.Wither;
+
+/**
+ * A PersistentSet of non-negative Integers backed by a vavr BitSet, one bit per possible value rather than a boxed Integer
+ * and trie node per element, so dense sets of small ints (ids, flags) are an order of magnitude smaller than a
+ * VavrHashSetX.
+ *
+ * Adding a negative value throws an IllegalArgumentException.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VavrBitSetX implements PersistentSet<Integer>, Unwrapable {
+
+  public static PersistentSetX<Integer> bitSetX(ReactiveSeq<Integer> stream) {
+    return fromStream(stream);
+  }
+
+  public static PersistentSetX<Integer> copyFromCollection(CollectionX<Integer> vec) {
+    return fromPSet(bulkReducer().build(vec.iterator()));
+  }
+
+  @Override
+  public <R> R unwrap() {
+    return (R) set;
+  }
+
+  /**
+   * Create a LazyPSetX from a Stream
+   *
+   * @param stream to construct a LazyPSetX from
+   * @return LazyPSetX
+   */
+  public static LazyPSetX<Integer> fromStream(Stream<Integer> stream) {
+    return new LazyPSetX<Integer>(null, ReactiveSeq.fromStream(stream), toPersistentSet(), Evaluation.LAZY);
+  }
+
+  /**
+   * Create a LazyPSetX that contains the Integers between start and end
+   *
+   * @param start Number of range to start from
+   * @param end   Number for range to end at
+   * @return Range LazyPSetX
+   */
+  public static LazyPSetX<Integer> range(int start, int end) {
+    return fromPSet(new VavrBitSetX(BitSet.range(start, end)));
+  }
+
+  /**
+   * <pre>
+   * {@code
+   * PersistentSet<Integer> q = VavrBitSetX.toPersistentSet()
+   *                                     .mapReduce(Stream.of(1,2,3,4));
+   *
+   * }
+   * </pre>
+   * Elements are buffered and the BitSet built once, with a single word array sized for the largest element
+   *
+   * @return Reducer for PersistentSet
+   */
+  public static Reducer<PersistentSet<Integer>, Integer> toPersistentSet() {
+    return bulkReducer();
+  }
+
+  private static BulkReducer<PersistentSet<Integer>, Integer> bulkReducer() {
+    return BulkReducer.<PersistentSet<Integer>, Integer>of(VavrBitSetX.emptyPersistentSet(), (a, b) -> a.plusAll(b),
+      x -> new VavrBitSetX(BitSet.of(x)), all -> {
+        int[] ints = new int[all.size()];
+        for (int i = 0; i < ints.length; i++) {
+          ints[i] = all.get(i);
+        }
+        return new VavrBitSetX(BitSet.ofAll(ints));
+      });
+  }
+
+  public static VavrBitSetX emptyPersistentSet() {
+    return new VavrBitSetX(BitSet.empty());
+  }
+
+  public static LazyPSetX<Integer> empty() {
+    return fromPSet(emptyPersistentSet());
+  }
+
+  private static LazyPSetX<Integer> fromPSet(PersistentSet<Integer> ts) {
+    return new LazyPSetX<Integer>(ts, null, toPersistentSet(), Evaluation.LAZY);
+  }
+
+  public static LazyPSetX<Integer> singleton(int t) {
+    return fromPSet(new VavrBitSetX(BitSet.of(t)));
+  }
+
+  public static LazyPSetX<Integer> of(int... t) {
+    return fromPSet(new VavrBitSetX(BitSet.ofAll(t)));
+  }
+
+  public static LazyPSetX<Integer> ofAll(BitSet<Integer> set) {
+    return fromPSet(new VavrBitSetX(set));
+  }
+
+  @Wither
+  private final BitSet<Integer> set;
+  private final CachedHash hash = new CachedHash();
+
+  public boolean containsInt(int value) {
+    return value >= 0 && set.contains(value);
+  }
+
+  public VavrBitSetX plusInt(int value) {
+    return withSet(set.add(value));
+  }
+
+  public VavrBitSetX removeInt(int value) {
+    return value < 0 ? this : withSet(set.remove(value));
+  }
+
+  /**
+   * Union of this set and the supplied elements. When the argument is backed by a BitSet, the smaller set is added to the
+   * larger one, with a single copy of the larger word array.
+   *
+   * @param other Elements to add
+   * @return Union of both sets
+   */
+  public VavrBitSetX union(Iterable<? extends Integer> other) {
+    BitSet<Integer> bits = NativeCollections.unwrap(other, BitSet.class);
+    if (bits != null && bits.size() > set.size()) {
+      return withSet(bits.addAll(set));
+    }
+    return withSet(set.addAll(NativeCollections.nativeOrSelf(other)));
+  }
+
+  /**
+   * Intersection of this set and the supplied elements, when the argument is backed by a BitSet only the smaller of the
+   * two sets is iterated.
+   *
+   * @param other Elements to retain
+   * @return Intersection of both sets
+   */
+  public VavrBitSetX intersect(Iterable<? extends Integer> other) {
+    BitSet<Integer> bits = NativeCollections.unwrap(other, BitSet.class);
+    if (bits != null) {
+      return withSet(set.intersect(bits));
+    }
+    return withSet(set.retainAll(NativeCollections.nativeOrSelf(other)));
+  }
+
+  @Override
+  public VavrBitSetX plus(Integer e) {
+    return plusInt(e);
+  }
+
+  @Override
+  public VavrBitSetX plusAll(Iterable<? extends Integer> list) {
+    return union(list);
+  }
+
+  @Override
+  public VavrBitSetX removeValue(Integer e) {
+    return removeInt(e);
+  }
+
+  @Override
+  public VavrBitSetX removeAll(Iterable<? extends Integer> list) {
+    return withSet(set.removeAll(NativeCollections.nativeOrSelf(list)));
+  }
+
+  @Override
+  public boolean containsValue(Integer value) {
+    return value != null && containsInt(value);
+  }
+
+  @Override
+  public int size() {
+    return set.size();
+  }
+
+  @Override
+  public Iterator<Integer> iterator() {
+    return set.iterator();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+
+    if (this == o) return true;
+    if (o instanceof VavrBitSetX) {
+      VavrBitSetX x = (VavrBitSetX) o;
+      return hash.mayEqual(x.hash) && set.equals(x.set);
+    }
+    if (o instanceof VavrHashSetX || o instanceof VavrTreeSetX) {
+      //only sets backed by vavr share vavr's (unordered) hashCode, so other PersistentSets are never equal
+      PersistentSet<?> x = (PersistentSet<?>) o;
+      if (x.size() != size()) {
+        return false;
+      }
+      for (Object next : x) {
+        if (!(next instanceof Integer) || !containsInt((Integer) next)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash.get(set);
+  }
+
+  @Override
+  public String toString() {
+    return "VavrBitSetX[" + set + ']';
+  }
+}
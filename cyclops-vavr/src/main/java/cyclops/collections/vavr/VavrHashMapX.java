@@ -0,0 +1,200 @@
+package cyclops.collections.vavr;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.oath.cyclops.types.Unwrapable;
+import com.oath.cyclops.types.persistent.PersistentMap;
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.function.Reducer;
+import io.vavr.collection.HashMap;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.experimental.Wither;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VavrHashMapX<K, V> implements PersistentMap<K, V>, Unwrapable {
+
+  @Wither
+  private final HashMap<K, V> map;
+  private final CachedHash hash = new CachedHash();
+
+  @Override
+  public <R> R unwrap() {
+    return (R) map;
+  }
+
+  /**
+   * Create a VavrHashMapX from a Stream of key / value pairs, later values replace earlier values for the same key
+   *
+   * @param stream to construct a VavrHashMapX from
+   * @return VavrHashMapX
+   */
+  public static <K, V> VavrHashMapX<K, V> fromStream(Stream<Tuple2<K, V>> stream) {
+    return (VavrHashMapX<K, V>) VavrHashMapX.<K, V>toPersistentMap().mapReduce(stream);
+  }
+
+  public static <K, V> VavrHashMapX<K, V> fromMap(Map<? extends K, ? extends V> map) {
+    return new VavrHashMapX<>(HashMap.ofAll(map));
+  }
+
+  public static <K, V> VavrHashMapX<K, V> copyFromMap(PersistentMap<K, V> map) {
+    HashMap<K, V> hashMap = NativeCollections.unwrap(map, HashMap.class);
+    if (hashMap != null) {
+      return new VavrHashMapX<>(hashMap);
+    }
+    return (VavrHashMapX<K, V>) VavrHashMapX.<K, V>bulkReducer().build(map.iterator());
+  }
+
+  /**
+   * <pre>
+   * {@code
+   * PersistentMap<Integer,String> q = VavrHashMapX.<Integer,String>toPersistentMap()
+   *                                             .mapReduce(Stream.of(Tuple.tuple(1,"a"),Tuple.tuple(2,"b")));
+   *
+   * }
+   * </pre>
+   * Entries are buffered and the HashMap built in a single pass, later values replace earlier values for the same key
+   *
+   * @return Reducer for PersistentMap
+   */
+  public static <K, V> Reducer<PersistentMap<K, V>, Tuple2<K, V>> toPersistentMap() {
+    return bulkReducer();
+  }
+
+  private static <K, V> BulkReducer<PersistentMap<K, V>, Tuple2<K, V>> bulkReducer() {
+    return BulkReducer.<PersistentMap<K, V>, Tuple2<K, V>>of(VavrHashMapX.empty(), (a, b) -> a.putAll(b),
+      t -> VavrHashMapX.singleton(t._1(), t._2()), all -> {
+        HashMap<K, V> map = HashMap.empty();
+        for (Tuple2<K, V> t : all) {
+          map = map.put(t._1(), t._2());
+        }
+        return new VavrHashMapX<>(map);
+      });
+  }
+
+  public static <K, V> VavrHashMapX<K, V> empty() {
+    return new VavrHashMapX<>(HashMap.empty());
+  }
+
+  public static <K, V> VavrHashMapX<K, V> singleton(K key, V value) {
+    return new VavrHashMapX<>(HashMap.of(key, value));
+  }
+
+  public static <K, V> VavrHashMapX<K, V> ofAll(HashMap<K, V> map) {
+    return new VavrHashMapX<>(map);
+  }
+
+  public static <K, V> VavrHashMapX<K, V> from(HashMap<K, V> map) {
+    return ofAll(map);
+  }
+
+  @Override
+  public VavrHashMapX<K, V> put(K key, V value) {
+    return withMap(map.put(key, value));
+  }
+
+  @Override
+  public VavrHashMapX<K, V> putAll(PersistentMap<? extends K, ? extends V> other) {
+    return merge(other, (current, replacement) -> replacement);
+  }
+
+  /**
+   * Merge another map into this one, resolving keys present in both with the supplied resolver (called with the value in
+   * this map, then the value in the other map).
+   *
+   * When the other map is also backed by a vavr HashMap, the smaller map is inserted into the larger one, so the larger
+   * trie is shared rather than copied.
+   *
+   * @param other    Map to merge with
+   * @param resolver Resolves values for keys present in both maps
+   * @return Merged map
+   */
+  public VavrHashMapX<K, V> merge(PersistentMap<? extends K, ? extends V> other, BinaryOperator<V> resolver) {
+    HashMap<K, V> hashMap = NativeCollections.unwrap(other, HashMap.class);
+    if (hashMap != null) {
+      if (hashMap.size() > map.size()) {
+        return withMap(hashMap.merge(map, (theirs, ours) -> resolver.apply(ours, theirs)));
+      }
+      return withMap(map.merge(hashMap, resolver));
+    }
+    HashMap<K, V> result = map;
+    for (Tuple2<? extends K, ? extends V> t : other) {
+      K key = t._1();
+      V value = t._2();
+      result = result.put(key, result.get(key).map(current -> resolver.apply(current, value)).getOrElse(value));
+    }
+    return withMap(result);
+  }
+
+  @Override
+  public VavrHashMapX<K, V> remove(K key) {
+    return withMap(map.remove(key));
+  }
+
+  @Override
+  public VavrHashMapX<K, V> removeAllKeys(Iterable<? extends K> keys) {
+    return withMap(map.removeAll(NativeCollections.nativeOrSelf(keys)));
+  }
+
+  @Override
+  public Option<V> get(K key) {
+    return map.get(key).map(Option::some).getOrElse(Option.none());
+  }
+
+  @Override
+  public V getOrElse(K key, V alt) {
+    return map.getOrElse(key, alt);
+  }
+
+  @Override
+  public V getOrElseGet(K key, Supplier<? extends V> alt) {
+    return map.get(key).getOrElse(alt);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean containsKey(K key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public Iterator<Tuple2<K, V>> iterator() {
+    return map.iterator()
+              .map(t -> Tuple.tuple(t._1(), t._2()));
+  }
+
+  @Override
+  public String toString() {
+    return "VavrHashMapX[" + map + ']';
+  }
+
+  @Override
+  public boolean equals(Object o) {
+
+    if (this == o) return true;
+    if (o instanceof VavrHashMapX) {
+      VavrHashMapX<?, ?> x = (VavrHashMapX<?, ?>) o;
+      return map.size() == x.map.size() && hash.mayEqual(x.hash) && map.equals(x.map);
+    }
+    if (o instanceof VavrTreeMapX) {
+      //only maps backed by vavr share vavr's hashCode, so other PersistentMaps are never equal
+      return equalTo((PersistentMap<K, V>) o);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash.get(map);
+  }
+}
@@ -35,9 +35,7 @@ public class VavrHashSetX<T>  implements PersistentSet<T>, Unwrapable {
         return fromStream(stream);
     }
     public static <T> PersistentSetX<T> copyFromCollection(CollectionX<? extends T> vec) {
-        PersistentSetX<T> res = VavrHashSetX.<T>empty()
-                .plusAll(vec);
-        return res;
+        return fromPSet(VavrHashSetX.<T>bulkReducer().build(vec.iterator()), toPersistentSet());
     }
     @Override
     public <R> R unwrap() {
@@ -126,8 +124,12 @@ public class VavrHashSetX<T>  implements PersistentSet<T>, Unwrapable {
 
 
     public static <T> Reducer<PersistentSet<T>,T> toPersistentSet() {
-      return Reducer.<PersistentSet<T>, T> of(VavrHashSetX.emptyPersistentSet(), (final PersistentSet<T> a) -> b -> a.plusAll(b), (final T x) -> VavrHashSetX.singleton(x));
+      return bulkReducer();
+    }
 
+    private static <T> BulkReducer<PersistentSet<T>,T> bulkReducer() {
+      return BulkReducer.<PersistentSet<T>, T> of(VavrHashSetX.emptyPersistentSet(), (a, b) -> a.plusAll(b),
+                                                  x -> new VavrHashSetX<>(HashSet.of(x)), all -> new VavrHashSetX<>(HashSet.ofAll(all)));
     }
 
     public static <T> LazyPSetX<T> PSet(Set<T> q) {
@@ -157,6 +159,7 @@ public class VavrHashSetX<T>  implements PersistentSet<T>, Unwrapable {
     }
     @Wither
     private final Set<T> set;
+    private final CachedHash hash = new CachedHash();
 
     @Override
     public VavrHashSetX<T> plus(T e) {
@@ -165,7 +168,12 @@ public class VavrHashSetX<T>  implements PersistentSet<T>, Unwrapable {
 
   @Override
   public VavrHashSetX<T> plusAll(Iterable<? extends T> list) {
-    return withSet(set.addAll(list));
+    HashSet<T> other = NativeCollections.unwrap(list, HashSet.class);
+    if (other != null && set instanceof HashSet && other.size() > set.size()) {
+      //add the smaller set into the larger one, so the larger set is shared rather than re-hashed
+      return withSet(other.addAll(set));
+    }
+    return withSet(set.addAll(NativeCollections.nativeOrSelf(list)));
   }
 
   @Override
@@ -175,7 +183,11 @@ public class VavrHashSetX<T>  implements PersistentSet<T>, Unwrapable {
 
   @Override
   public VavrHashSetX<T> removeAll(Iterable<? extends T> list) {
-    return withSet(set.removeAll(list));
+    HashSet<T> other = NativeCollections.unwrap(list, HashSet.class);
+    if (other != null && other.size() < set.size()) {
+      return withSet(other.foldLeft(set, Set::remove));
+    }
+    return withSet(set.removeAll(NativeCollections.nativeOrSelf(list)));
   }
 
 
@@ -189,21 +201,31 @@ public class VavrHashSetX<T>  implements PersistentSet<T>, Unwrapable {
         return set.iterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SnapshotSpliterator<>(set.iterator(), set.size(), Spliterator.DISTINCT | Spliterator.IMMUTABLE, null);
+    }
+
 
   @Override
   public boolean equals(Object o) {
 
     if (this == o) return true;
-    if(o instanceof PersistentSet){
-      PersistentSet<T> x = (PersistentSet<T>)o;
-      return o.equals(this);
+    if (o instanceof VavrHashSetX) {
+      VavrHashSetX<?> x = (VavrHashSetX<?>) o;
+      return set.size() == x.set.size() && hash.mayEqual(x.hash) && set.equals(x.set);
+    }
+    if(o instanceof VavrTreeSetX || o instanceof VavrBitSetX){
+      //only sets backed by vavr share vavr's (unordered) hashCode, so other PersistentSets are never equal
+      PersistentSet<?> x = (PersistentSet<?>)o;
+      return size() == x.size() && CachedHash.containsAll(e -> set.contains((T) e), x);
     }
     return false;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(set);
+    return hash.get(set);
   }
   @Override
   public String toString() {
@@ -17,7 +17,6 @@ import lombok.AllArgsConstructor;
 import lombok.experimental.Wither;
 
 import java.util.Iterator;
-import java.util.Objects;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -35,20 +34,20 @@ public class VavrListX<T>  implements PersistentList<T>, Unwrapable {
         return (R)list;
     }
 
-    static final FoldToList gen = (it,i)-> VavrListX.from(from(it,i));
+    static final FoldToList gen = (it,i)-> new VavrListX<>(from(it));
 
     public static <T> LinkedListX<T> copyFromCollection(CollectionX<T> vec) {
-        List<T> list = from(vec.iterator(),0);
+        List<T> list = from(vec.iterator());
         return from(list);
 
     }
 
-    private static <E> List<E> from(final Iterator<E> i, int depth) {
-
-        if(!i.hasNext())
-            return List.empty();
-        E e = i.next();
-        return  from(i,depth++).prepend(e);
+    /**
+     * Iteratively (and so stack safely) build a List, the remaining elements are buffered into an array and then prepended
+     * back to front, one cons cell per element
+     */
+    private static <E> List<E> from(final Iterator<E> i) {
+        return List.ofAll(BulkReducer.buffer(i));
     }
     /**
      * Create a LazyLinkedListX from a Stream
@@ -140,10 +139,17 @@ public class VavrListX<T>  implements PersistentList<T>, Unwrapable {
      *
      * }
      * </pre>
+     * Elements are buffered and the List built once (via List.ofAll), rather than appending a singleton List per element
+     *
      * @return Reducer for PersistentList
      */
     public static <T> Reducer<PersistentList<T>,T> toPersistentList() {
-        return Reducer.<PersistentList<T>,T> of(VavrListX.emptyPersistentList(), (final PersistentList<T> a) -> b -> a.plusAll(b), (final T x) -> VavrListX.singleton(x));
+        return bulkReducer();
+    }
+
+    private static <T> BulkReducer<PersistentList<T>,T> bulkReducer() {
+        return BulkReducer.<PersistentList<T>,T> of(VavrListX.emptyPersistentList(), (a, b) -> a.plusAll(b),
+                                                   x -> new VavrListX<>(List.of(x)), all -> new VavrListX<>(List.ofAll(all)));
     }
 
     public static <T> VavrListX<T> emptyPersistentList(){
@@ -176,6 +182,7 @@ public class VavrListX<T>  implements PersistentList<T>, Unwrapable {
     }
     @Wither
     private final List<T> list;
+    private final CachedHash hash = new CachedHash();
 
     @Override
     public VavrListX<T> plus(T e) {
@@ -184,7 +191,7 @@ public class VavrListX<T>  implements PersistentList<T>, Unwrapable {
 
     @Override
     public VavrListX<T> plusAll(Iterable<? extends T> l) {
-       return withList(list.appendAll(l));
+       return withList(list.appendAll(NativeCollections.nativeOrSelf(l)));
     }
 
   @Override
@@ -199,7 +206,7 @@ public class VavrListX<T>  implements PersistentList<T>, Unwrapable {
 
   @Override
   public VavrListX<T> insertAt(int i, Iterable<? extends T> it) {
-    return withList(list.insertAll(i,it));
+    return withList(list.insertAll(i,NativeCollections.nativeOrSelf(it)));
   }
 
   @Override
@@ -209,7 +216,7 @@ public class VavrListX<T>  implements PersistentList<T>, Unwrapable {
 
   @Override
   public VavrListX<T> removeAll(Iterable<? extends T> it) {
-    return withList(list.removeAll(it));
+    return withList(list.removeAll(NativeCollections.nativeOrSelf(it)));
   }
 
   @Override
@@ -254,15 +261,19 @@ public class VavrListX<T>  implements PersistentList<T>, Unwrapable {
   public boolean equals(Object o) {
 
     if (this == o) return true;
+    if (o instanceof VavrListX) {
+      VavrListX<?> x = (VavrListX<?>) o;
+      return list.size() == x.list.size() && hash.mayEqual(x.hash) && list.equals(x.list);
+    }
     if(o instanceof PersistentList){
-      PersistentList<T> x = (PersistentList<T>)o;
-      return o.equals(this);
+      PersistentList<?> x = (PersistentList<?>)o;
+      return size() == x.size() && CachedHash.sameOrder(list, x);
     }
     return false;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(list);
+    return hash.get(list);
   }
 }
@@ -29,6 +29,7 @@ import lombok.experimental.Wither;
 public class VavrQueueX<T>  implements PersistentQueue<T>, Unwrapable {
     @Wither
     private final Queue<T> list;
+    private final CachedHash hash = new CachedHash();
 
     public static <T> PersistentQueueX<T> queueX(ReactiveSeq<T> stream){
         return fromStream(stream);
@@ -184,7 +185,7 @@ public class VavrQueueX<T>  implements PersistentQueue<T>, Unwrapable {
 
     @Override
     public VavrQueueX<T> plusAll(Iterable<? extends T> it) {
-      return withList(list.enqueueAll(it));
+      return withList(list.enqueueAll(NativeCollections.nativeOrSelf(it)));
     }
 
     @Override
@@ -194,7 +195,7 @@ public class VavrQueueX<T>  implements PersistentQueue<T>, Unwrapable {
 
     @Override
     public VavrQueueX<T> removeAll(Iterable<? extends T> it) {
-      return withList(list.removeAll(it));
+      return withList(list.removeAll(NativeCollections.nativeOrSelf(it)));
     }
 
   @Override
@@ -232,15 +233,19 @@ public class VavrQueueX<T>  implements PersistentQueue<T>, Unwrapable {
   public boolean equals(Object o) {
 
     if (this == o) return true;
-    if(o instanceof PersistentList){
-      PersistentQueue<T> x = (PersistentQueue<T>)o;
-      return o.equals(this);
+    if (o instanceof VavrQueueX) {
+      VavrQueueX<?> x = (VavrQueueX<?>) o;
+      return list.size() == x.list.size() && hash.mayEqual(x.hash) && list.equals(x.list);
+    }
+    if(o instanceof PersistentQueue){
+      PersistentQueue<?> x = (PersistentQueue<?>)o;
+      return size() == x.size() && CachedHash.sameOrder(list, x);
     }
     return false;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(list);
+    return hash.get(list);
   }
 }
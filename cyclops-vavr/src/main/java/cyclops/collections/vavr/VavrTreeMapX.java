@@ -0,0 +1,231 @@
+package cyclops.collections.vavr;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.oath.cyclops.types.Unwrapable;
+import com.oath.cyclops.types.persistent.PersistentMap;
+import cyclops.control.Option;
+import cyclops.data.tuple.Tuple;
+import cyclops.data.tuple.Tuple2;
+import cyclops.function.Reducer;
+import io.vavr.collection.TreeMap;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.experimental.Wither;
+
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VavrTreeMapX<K, V> implements PersistentMap<K, V>, Unwrapable {
+
+  @Wither
+  private final TreeMap<K, V> map;
+  private final CachedHash hash = new CachedHash();
+
+  @Override
+  public <R> R unwrap() {
+    return (R) map;
+  }
+
+  public Comparator<K> comparator() {
+    return map.comparator();
+  }
+
+  /**
+   * Create a VavrTreeMapX from a Stream of key / value pairs, later values replace earlier values for the same key
+   *
+   * @param stream to construct a VavrTreeMapX from
+   * @return VavrTreeMapX
+   */
+  public static <K extends Comparable<? super K>, V> VavrTreeMapX<K, V> fromStream(Stream<Tuple2<K, V>> stream) {
+    return (VavrTreeMapX<K, V>) VavrTreeMapX.<K, V>toPersistentMap().mapReduce(stream);
+  }
+
+  public static <K, V> VavrTreeMapX<K, V> fromStream(Stream<Tuple2<K, V>> stream, Comparator<? super K> comparator) {
+    return (VavrTreeMapX<K, V>) VavrTreeMapX.<K, V>toPersistentMap(comparator).mapReduce(stream);
+  }
+
+  public static <K, V> VavrTreeMapX<K, V> fromMap(Map<? extends K, ? extends V> map, Comparator<? super K> comparator) {
+    return new VavrTreeMapX<>(TreeMap.ofAll(comparator, map));
+  }
+
+  public static <K, V> VavrTreeMapX<K, V> copyFromMap(PersistentMap<K, V> map, Comparator<? super K> comparator) {
+    VavrTreeMapX<K, V> zero = VavrTreeMapX.empty(comparator);
+    TreeMap<K, V> treeMap = zero.sameOrdering(map);
+    if (treeMap != null) {
+      return zero.withMap(treeMap);
+    }
+    return (VavrTreeMapX<K, V>) bulkReducer(zero).build(map.iterator());
+  }
+
+  /**
+   * <pre>
+   * {@code
+   * PersistentMap<Integer,String> q = VavrTreeMapX.<Integer,String>toPersistentMap()
+   *                                             .mapReduce(Stream.of(Tuple.tuple(1,"a"),Tuple.tuple(2,"b")));
+   *
+   * }
+   * </pre>
+   * Entries are buffered and sorted by key once, and the TreeMap is then built from the distinct keys in ascending order
+   * (later values replace earlier values for the same key)
+   *
+   * @return Reducer for PersistentMap
+   */
+  public static <K extends Comparable<? super K>, V> Reducer<PersistentMap<K, V>, Tuple2<K, V>> toPersistentMap() {
+    return bulkReducer(VavrTreeMapX.<K, V>empty());
+  }
+
+  public static <K, V> Reducer<PersistentMap<K, V>, Tuple2<K, V>> toPersistentMap(Comparator<? super K> comparator) {
+    return bulkReducer(VavrTreeMapX.<K, V>empty(comparator));
+  }
+
+  private static <K, V> BulkReducer<PersistentMap<K, V>, Tuple2<K, V>> bulkReducer(VavrTreeMapX<K, V> zero) {
+    Comparator<K> comparator = zero.comparator();
+    return BulkReducer.<PersistentMap<K, V>, Tuple2<K, V>>of(zero, (a, b) -> a.putAll(b), t -> zero.put(t._1(), t._2()),
+      all -> {
+        all.sort((a, b) -> comparator.compare(a._1(), b._1()));
+        TreeMap<K, V> map = zero.map;
+        int size = all.size();
+        for (int i = 0; i < size; i++) {
+          Tuple2<K, V> t = all.get(i);
+          //the sort is stable, so the last entry in a run of equal keys is the latest value
+          if (i + 1 == size || comparator.compare(t._1(), all.get(i + 1)._1()) != 0) {
+            map = map.put(t._1(), t._2());
+          }
+        }
+        return zero.withMap(map);
+      });
+  }
+
+  public static <K extends Comparable<? super K>, V> VavrTreeMapX<K, V> empty() {
+    return new VavrTreeMapX<>(TreeMap.<K, V>empty());
+  }
+
+  public static <K, V> VavrTreeMapX<K, V> empty(Comparator<? super K> comparator) {
+    return new VavrTreeMapX<>(TreeMap.empty(comparator));
+  }
+
+  public static <K extends Comparable<? super K>, V> VavrTreeMapX<K, V> singleton(K key, V value) {
+    return new VavrTreeMapX<>(TreeMap.of(key, value));
+  }
+
+  public static <K, V> VavrTreeMapX<K, V> ofAll(TreeMap<K, V> map) {
+    return new VavrTreeMapX<>(map);
+  }
+
+  public static <K, V> VavrTreeMapX<K, V> from(TreeMap<K, V> map) {
+    return ofAll(map);
+  }
+
+  @Override
+  public VavrTreeMapX<K, V> put(K key, V value) {
+    return withMap(map.put(key, value));
+  }
+
+  @Override
+  public VavrTreeMapX<K, V> putAll(PersistentMap<? extends K, ? extends V> other) {
+    return merge(other, (current, replacement) -> replacement);
+  }
+
+  /**
+   * Merge another map into this one, resolving keys present in both with the supplied resolver (called with the value in
+   * this map, then the value in the other map).
+   *
+   * When the other map is also backed by a vavr TreeMap with the same ordering, the smaller map is inserted into the
+   * larger one, so the larger tree is shared rather than copied.
+   *
+   * @param other    Map to merge with
+   * @param resolver Resolves values for keys present in both maps
+   * @return Merged map
+   */
+  public VavrTreeMapX<K, V> merge(PersistentMap<? extends K, ? extends V> other, BinaryOperator<V> resolver) {
+    TreeMap<K, V> treeMap = sameOrdering(other);
+    if (treeMap != null) {
+      if (treeMap.size() > map.size()) {
+        return withMap(treeMap.merge(map, (theirs, ours) -> resolver.apply(ours, theirs)));
+      }
+      return withMap(map.merge(treeMap, resolver));
+    }
+    TreeMap<K, V> result = map;
+    for (Tuple2<? extends K, ? extends V> t : other) {
+      K key = t._1();
+      V value = t._2();
+      result = result.put(key, result.get(key).map(current -> resolver.apply(current, value)).getOrElse(value));
+    }
+    return withMap(result);
+  }
+
+  private TreeMap<K, V> sameOrdering(PersistentMap<? extends K, ? extends V> other) {
+    TreeMap<K, V> treeMap = NativeCollections.unwrap(other, TreeMap.class);
+    return treeMap != null && treeMap.comparator().equals(map.comparator()) ? treeMap : null;
+  }
+
+  @Override
+  public VavrTreeMapX<K, V> remove(K key) {
+    return withMap(map.remove(key));
+  }
+
+  @Override
+  public VavrTreeMapX<K, V> removeAllKeys(Iterable<? extends K> keys) {
+    return withMap(map.removeAll(NativeCollections.nativeOrSelf(keys)));
+  }
+
+  @Override
+  public Option<V> get(K key) {
+    return map.get(key).map(Option::some).getOrElse(Option.none());
+  }
+
+  @Override
+  public V getOrElse(K key, V alt) {
+    return map.getOrElse(key, alt);
+  }
+
+  @Override
+  public V getOrElseGet(K key, Supplier<? extends V> alt) {
+    return map.get(key).getOrElse(alt);
+  }
+
+  @Override
+  public int size() {
+    return map.size();
+  }
+
+  @Override
+  public boolean containsKey(K key) {
+    return map.containsKey(key);
+  }
+
+  @Override
+  public Iterator<Tuple2<K, V>> iterator() {
+    return map.iterator()
+              .map(t -> Tuple.tuple(t._1(), t._2()));
+  }
+
+  @Override
+  public String toString() {
+    return "VavrTreeMapX[" + map + ']';
+  }
+
+  @Override
+  public boolean equals(Object o) {
+
+    if (this == o) return true;
+    if (o instanceof VavrTreeMapX) {
+      VavrTreeMapX<?, ?> x = (VavrTreeMapX<?, ?>) o;
+      return map.size() == x.map.size() && hash.mayEqual(x.hash) && map.equals(x.map);
+    }
+    if (o instanceof VavrHashMapX) {
+      //only maps backed by vavr share vavr's hashCode, so other PersistentMaps are never equal
+      return equalTo((PersistentMap<K, V>) o);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash.get(map);
+  }
+}
@@ -11,6 +11,7 @@ import com.oath.cyclops.data.collections.extensions.CollectionX;
 import com.oath.cyclops.data.collections.extensions.lazy.immutable.LazyPOrderedSetX;
 import com.oath.cyclops.types.Unwrapable;
 import com.oath.cyclops.types.foldable.Evaluation;
+import com.oath.cyclops.types.persistent.PersistentSet;
 import com.oath.cyclops.types.persistent.PersistentSortedSet;
 
 import cyclops.control.Option;
@@ -30,6 +31,7 @@ import lombok.experimental.Wither;
 
 public class VavrTreeSetX<T> implements PersistentSortedSet<T>, Unwrapable {
     private final SortedSet<T> set;
+    private final CachedHash hash = new CachedHash();
 
     private VavrTreeSetX(SortedSet<T> set){
       this.set = set;
@@ -45,8 +47,8 @@ public class VavrTreeSetX<T> implements PersistentSortedSet<T>, Unwrapable {
         return fromStream(stream);
     }
     public static <T> OrderedSetX<T> copyFromCollection(CollectionX<T> vec, Comparator<T> comp) {
-        return VavrTreeSetX.empty(comp)
-                           .plusAll(vec);
+        return fromPersistentSortedSet(bulkReducer(VavrTreeSetX.<T>emptyPersistentSortedSet(comp)).build(vec.iterator()),
+                                       toPersistentSortedSet(comp));
     }
 
     @Override
@@ -151,15 +153,37 @@ public class VavrTreeSetX<T> implements PersistentSortedSet<T>, Unwrapable {
      *
      * }
      * </pre>
+     * Elements are buffered, sorted and de-duplicated once, and the TreeSet is then built from the distinct elements in
+     * ascending order, rather than combining a singleton TreeSet per element
+     *
      * @return Reducer for PersistentSortedSet
      */
     public static <T extends Comparable<? super T>> Reducer<PersistentSortedSet<T>,T> toPersistentSortedSet() {
-        return Reducer.<PersistentSortedSet<T>,T> of(VavrTreeSetX.emptyPersistentSortedSet(), (final PersistentSortedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> VavrTreeSetX.singleton(x));
+        return bulkReducer(VavrTreeSetX.<T>emptyPersistentSortedSet());
     }
     public static <T> Reducer<PersistentSortedSet<T>,T> toPersistentSortedSet(Comparator<? super T> comparator) {
-        return Reducer.<PersistentSortedSet<T>,T> of(VavrTreeSetX.emptyPersistentSortedSet(comparator), (final PersistentSortedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> VavrTreeSetX.singleton(comparator,x));
+        return bulkReducer(VavrTreeSetX.emptyPersistentSortedSet(comparator));
+    }
+
+    private static <T> BulkReducer<PersistentSortedSet<T>,T> bulkReducer(VavrTreeSetX<T> zero) {
+        Comparator<? super T> comparator = zero.comparator();
+        return BulkReducer.<PersistentSortedSet<T>,T> of(zero, (a, b) -> a.plusAll(b), x -> zero.plus(x),
+                                                         all -> zero.withSet(TreeSet.ofAll(comparator, sortedDistinct(all, comparator))));
+    }
+
+    /**
+     * Sort the buffered elements in place and drop duplicates, keeping the first of each run of equal elements (matching
+     * TreeSet#add, which ignores elements already present)
+     */
+    private static <T> java.util.List<T> sortedDistinct(java.util.List<T> all, Comparator<? super T> comparator) {
+        all.sort(comparator);
+        int distinct = 0;
+        for (T next : all) {
+            if (distinct == 0 || comparator.compare(all.get(distinct - 1), next) != 0) {
+                all.set(distinct++, next);
+            }
+        }
+        return all.subList(0, distinct);
     }
     public static <T extends Comparable<? super T>> VavrTreeSetX<T> emptyPersistentSortedSet() {
       VavrTreeSetX<T> x = new VavrTreeSetX<T>(TreeSet.empty());
@@ -214,7 +238,12 @@ public class VavrTreeSetX<T> implements PersistentSortedSet<T>, Unwrapable {
 
   @Override
   public VavrTreeSetX<T> plusAll(Iterable<? extends T> list) {
-    return withSet(set.addAll(list));
+    TreeSet<T> other = sameOrdering(list);
+    if (other != null && set instanceof TreeSet && other.size() > set.size()) {
+      //insert the smaller set into the larger one, so the larger tree is shared rather than rebuilt
+      return withSet(other.addAll(set));
+    }
+    return withSet(set.addAll(NativeCollections.nativeOrSelf(list)));
   }
 
   @Override
@@ -224,7 +253,16 @@ public class VavrTreeSetX<T> implements PersistentSortedSet<T>, Unwrapable {
 
   @Override
   public VavrTreeSetX<T> removeAll(Iterable<? extends T> list) {
-    return withSet(set.removeAll(list));
+    TreeSet<T> other = sameOrdering(list);
+    if (other != null && other.size() > set.size()) {
+      return withSet(set.filter(e -> !other.contains(e)));
+    }
+    return withSet(set.removeAll(NativeCollections.nativeOrSelf(list)));
+  }
+
+  private TreeSet<T> sameOrdering(Iterable<? extends T> list) {
+    TreeSet<T> other = NativeCollections.unwrap(list, TreeSet.class);
+    return other != null && other.comparator().equals(set.comparator()) ? other : null;
   }
 
 
@@ -238,6 +276,13 @@ public class VavrTreeSetX<T> implements PersistentSortedSet<T>, Unwrapable {
         return set.iterator();
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new SnapshotSpliterator<>(set.iterator(), set.size(),
+                                         Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.SORTED,
+                                         set.comparator());
+    }
+
     @Override
     public Option<T> get(int index) {
         if (index > set.size() || index < 0)
@@ -271,15 +316,32 @@ public class VavrTreeSetX<T> implements PersistentSortedSet<T>, Unwrapable {
   public boolean equals(Object o) {
 
     if (this == o) return true;
-    if(o instanceof PersistentSortedSet){
-      PersistentSortedSet<T> x = (PersistentSortedSet<T>)o;
-      return o.equals(this);
+    if (o instanceof VavrTreeSetX) {
+      VavrTreeSetX<?> x = (VavrTreeSetX<?>) o;
+      if (set.size() != x.set.size() || !hash.mayEqual(x.hash)) {
+        return false;
+      }
+      return set.comparator().equals(x.set.comparator()) ? CachedHash.sameOrder(set, x.set) : containsAll(x.set);
+    }
+    if(o instanceof VavrHashSetX || o instanceof VavrBitSetX){
+      //only sets backed by vavr share vavr's (unordered) hashCode, so other PersistentSets are never equal
+      PersistentSet<?> x = (PersistentSet<?>)o;
+      return size() == x.size() && containsAll(x);
     }
     return false;
   }
 
+  private boolean containsAll(Iterable<?> other) {
+    try {
+      return CachedHash.containsAll(e -> set.contains((T) e), other);
+    } catch (ClassCastException | NullPointerException e) {
+      //the comparator cannot order an element of another type (or null), so it is not in this set
+      return false;
+    }
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(set);
+    return hash.get(set);
   }
 }
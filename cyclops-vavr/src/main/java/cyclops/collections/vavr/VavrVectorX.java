@@ -1,6 +1,7 @@
 package cyclops.collections.vavr;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -12,7 +13,9 @@ import com.oath.cyclops.data.collections.extensions.lazy.immutable.LazyPVectorX;
 import com.oath.cyclops.types.Unwrapable;
 import com.oath.cyclops.types.foldable.Evaluation;
 import com.oath.cyclops.types.persistent.PersistentList;
+import cyclops.companion.vavr.Vectors;
 import cyclops.control.Option;
+import cyclops.function.Monoid;
 import cyclops.function.Reducer;
 import cyclops.reactive.ReactiveSeq;
 import cyclops.reactive.collections.immutable.VectorX;
@@ -130,10 +133,13 @@ public class VavrVectorX<T> implements PersistentList<T>, Unwrapable {
    * }
    * </pre>
    *
+   * Elements are buffered and the Vector built once (via Vector.ofAll), rather than appending a singleton Vector per element
+   *
    * @return Reducer for PersistentList
    */
   public static <T> Reducer<PersistentList<T>, T> toPersistentList() {
-    return Reducer.<PersistentList<T>, T>of(VavrVectorX.emptyPersistentList(), (final PersistentList<T> a) -> b -> a.plusAll(b), (final T x) -> VavrVectorX.singleton(x));
+    return BulkReducer.<PersistentList<T>, T>of(VavrVectorX.emptyPersistentList(), (a, b) -> a.plusAll(b),
+      x -> new VavrVectorX<>(Vector.of(x)), all -> new VavrVectorX<>(Vector.ofAll(all)));
   }
 
   public static <T> VavrVectorX<T> emptyPersistentList() {
@@ -175,6 +181,7 @@ public class VavrVectorX<T> implements PersistentList<T>, Unwrapable {
 
   @Wither
   private final Vector<T> vector;
+  private final CachedHash hash = new CachedHash();
 
   @Override
   public VavrVectorX<T> plus(T e) {
@@ -183,7 +190,7 @@ public class VavrVectorX<T> implements PersistentList<T>, Unwrapable {
 
   @Override
   public VavrVectorX<T> plusAll(Iterable<? extends T> list) {
-    return withVector(vector.appendAll(list));
+    return withVector(vector.appendAll(NativeCollections.nativeOrSelf(list)));
   }
 
   @Override
@@ -198,7 +205,7 @@ public class VavrVectorX<T> implements PersistentList<T>, Unwrapable {
 
   @Override
   public VavrVectorX<T> insertAt(int i, Iterable<? extends T> list) {
-    return withVector(vector.insertAll(i, list));
+    return withVector(vector.insertAll(i, NativeCollections.nativeOrSelf(list)));
   }
 
   @Override
@@ -208,7 +215,7 @@ public class VavrVectorX<T> implements PersistentList<T>, Unwrapable {
 
   @Override
   public VavrVectorX<T> removeAll(Iterable<? extends T> list) {
-    return withVector(vector.removeAll(list));
+    return withVector(vector.removeAll(NativeCollections.nativeOrSelf(list)));
   }
 
   @Override
@@ -239,12 +246,39 @@ public class VavrVectorX<T> implements PersistentList<T>, Unwrapable {
     return vector.size();
   }
 
+  /**
+   * Map and reduce the elements of a VectorX in parallel on the common ForkJoinPool, see Vectors#parallelMapReduce. A
+   * VectorX backed by a VavrVectorX is split by index directly, anything else is first copied into a vavr Vector.
+   *
+   * @param vec VectorX to reduce
+   * @param mapper Function applied to each element
+   * @param monoid Associative combiner with identity (e.g. from VavrMonoids)
+   * @return Combined result
+   */
+  public static <T, R> R parallelMapReduce(CollectionX<T> vec, Function<? super T, ? extends R> mapper, Monoid<R> monoid) {
+    Vector<T> vector = NativeCollections.unwrap(vec, Vector.class);
+    return Vectors.parallelMapReduce(vector != null ? vector : Vector.ofAll(vec), mapper, monoid);
+  }
+
+  public <R> R parallelMapReduce(Function<? super T, ? extends R> mapper, Monoid<R> monoid) {
+    return Vectors.parallelMapReduce(vector, mapper, monoid);
+  }
+
+  public <R> R parallelMapReduce(Function<? super T, ? extends R> mapper, Monoid<R> monoid, ForkJoinPool pool) {
+    return Vectors.parallelMapReduce(vector, mapper, monoid, pool);
+  }
+
 
   @Override
   public Iterator<T> iterator() {
     return vector.iterator();
   }
 
+  @Override
+  public Spliterator<T> spliterator() {
+    return new IndexedSeqSpliterator<>(vector, Spliterator.ORDERED | Spliterator.IMMUTABLE, null);
+  }
+
   @Override
   public String toString() {
     return "VavrVectorX[" + vector + ']';
@@ -254,15 +288,19 @@ public class VavrVectorX<T> implements PersistentList<T>, Unwrapable {
   public boolean equals(Object o) {
 
     if (this == o) return true;
+    if (o instanceof VavrVectorX) {
+      VavrVectorX<?> x = (VavrVectorX<?>) o;
+      return vector.size() == x.vector.size() && hash.mayEqual(x.hash) && vector.equals(x.vector);
+    }
     if (o instanceof PersistentList) {
-      PersistentList<T> x = (PersistentList<T>) o;
-      return o.equals(this);
+      PersistentList<?> x = (PersistentList<?>) o;
+      return size() == x.size() && CachedHash.sameOrder(vector, x);
     }
     return false;
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(vector);
+    return hash.get(vector);
   }
 }
@@ -4,12 +4,14 @@ package cyclops.companion.vavr;
 import com.oath.cyclops.anym.AnyMSeq;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
+import cyclops.function.Monoid;
 import cyclops.monads.AnyM;
 import cyclops.monads.VavrWitness.array;
 import cyclops.monads.WitnessType;
 import cyclops.monads.XorM;
 import io.vavr.collection.Array;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -25,6 +27,35 @@ public class Arrays {
         return AnyM.ofSeq(option, array.INSTANCE);
     }
 
+    /**
+     * Map each element of an Array and reduce the results with the supplied Monoid (e.g. from VavrMonoids) in parallel on
+     * the common ForkJoinPool. The Array is split into index ranges (no copying), and partial results are combined in
+     * order, so the Monoid need not be commutative.
+     *
+     * <pre>
+     * {@code
+     *   Vector<Integer> all = Arrays.parallelMapReduce(Array.range(0,100_000), i->Vector.of(i*2), VavrMonoids.vectorConcat());
+     *   int total = Arrays.parallelMapReduce(Array.range(0,100_000), i->i, Monoids.intSum);
+     * }
+     * </pre>
+     *
+     * @param array Array to reduce
+     * @param mapper Function applied to each element
+     * @param monoid Associative combiner with identity
+     * @return Combined result
+     */
+    public static <T,R> R parallelMapReduce(Array<T> array, Function<? super T, ? extends R> mapper, Monoid<R> monoid) {
+        return parallelMapReduce(array, mapper, monoid, ForkJoinPool.commonPool());
+    }
+
+    public static <T,R> R parallelMapReduce(Array<T> array, Function<? super T, ? extends R> mapper, Monoid<R> monoid, ForkJoinPool pool) {
+        return IndexedSeqReduction.mapReduce(array, mapper, monoid, pool);
+    }
+
+    public static <T> T parallelReduce(Array<T> array, Monoid<T> monoid) {
+        return parallelMapReduce(array, Function.identity(), monoid);
+    }
+
     public static  <T,R> Array<R> tailRec(T initial, Function<? super T, ? extends Array<? extends io.vavr.control.Either<T, R>>> fn) {
         Array<io.vavr.control.Either<T, R>> next = Array.of(io.vavr.control.Either.left(initial));
 
@@ -68,7 +99,7 @@ public class Arrays {
 
 
     /**
-     * Perform a For Comprehension over a Array, accepting 3 generating functions.
+     * Perform a For Comprehension over an Array, accepting 3 generating functions.
      * This results in a four level nested internal iteration over the provided Publishers.
      *
      *  <pre>
@@ -116,7 +147,7 @@ public class Arrays {
     }
 
     /**
-     * Perform a For Comprehension over a Array, accepting 3 generating function.
+     * Perform a For Comprehension over an Array, accepting 3 generating function.
      * This results in a four level nested internal iteration over the provided Publishers.
      * <pre>
      * {@code
@@ -166,7 +197,7 @@ public class Arrays {
     }
 
     /**
-     * Perform a For Comprehension over a Array, accepting 2 generating function.
+     * Perform a For Comprehension over an Array, accepting 2 generating function.
      * This results in a three level nested internal iteration over the provided Publishers.
      *
      * <pre>
@@ -209,7 +240,7 @@ public class Arrays {
     }
 
     /**
-     * Perform a For Comprehension over a Array, accepting 2 generating function.
+     * Perform a For Comprehension over an Array, accepting 2 generating function.
      * This results in a three level nested internal iteration over the provided Publishers.
      * <pre>
      * {@code
@@ -254,7 +285,7 @@ public class Arrays {
     }
 
     /**
-     * Perform a For Comprehension over a Array, accepting an additonal generating function.
+     * Perform a For Comprehension over an Array, accepting an additonal generating function.
      * This results in a two level nested internal iteration over the provided Publishers.
      *
      * <pre>
@@ -0,0 +1,133 @@
+package cyclops.companion.vavr;
+
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Try;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A loading cache of vavr Futures.
+ *
+ * Concurrent callers for the same key share a single in-flight Future, so each key is loaded at most once at a time.
+ * Successful values are kept until they are older than the time to live, or until they are the least recently used
+ * entry once the cache is larger than its maximum size. Failed loads are evicted as soon as they complete, so the next
+ * caller retries.
+ *
+ * <pre>
+ * {@code
+ *  AsyncCache<Long,User> users = AsyncCache.of(10_000, Duration.ofMinutes(5));
+ *
+ *  Future<User> user = users.get(10l, id -> Future.of(() -> client.load(id)));
+ * }
+ * </pre>
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public final class AsyncCache<K, V> {
+
+    private final long maxSize;
+    private final long ttlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private AsyncCache(long maxSize, Duration ttl) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException("maxSize must be at least 1 but was " + maxSize);
+        if (ttl.isNegative() || ttl.isZero())
+            throw new IllegalArgumentException("ttl must be positive but was " + ttl);
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > AsyncCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @param maxSize Maximum number of entries (the least recently used entry is evicted beyond this)
+     * @param ttl Time to live of a successfully loaded value
+     * @return Empty AsyncCache
+     */
+    public static <K, V> AsyncCache<K, V> of(long maxSize, Duration ttl) {
+        return new AsyncCache<>(maxSize, ttl);
+    }
+
+    /**
+     * Get the cached or in-flight Future for the supplied key, or start loading it
+     *
+     * @param key Key to look up
+     * @param loader Function to load the value for the key if it is not present
+     * @return Future for the value
+     */
+    public Future<V> get(K key, Function<? super K, ? extends Future<? extends V>> loader) {
+        Entry<V> entry;
+        synchronized (entries) {
+            Entry<V> current = entries.get(key);
+            if (current != null && !current.expired(System.nanoTime()))
+                return current.promise.future();
+            entry = new Entry<>();
+            entries.put(key, entry);
+        }
+        load(key, entry, loader);
+        return entry.promise.future();
+    }
+
+    private void load(K key, Entry<V> entry, Function<? super K, ? extends Future<? extends V>> loader) {
+        Future<? extends V> future;
+        try {
+            future = loader.apply(key);
+            if (future == null)
+                future = Future.failed(new NullPointerException("loader returned null for key " + key));
+        } catch (Throwable t) {
+            future = Future.failed(t);
+        }
+        future.onComplete(t -> {
+            if (t.isSuccess())
+                entry.expiresAt = System.nanoTime() + ttlNanos;
+            else
+                invalidate(key, entry);
+            entry.promise.tryComplete(Try.narrow(t));
+        });
+    }
+
+    private void invalidate(K key, Entry<V> entry) {
+        synchronized (entries) {
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * Remove the entry for the supplied key (an in-flight load still completes its waiting callers)
+     *
+     * @param key Key to remove
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * @return Number of entries, including in-flight and expired entries not yet evicted
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final Promise<V> promise = Promise.make();
+        private volatile long expiresAt = Long.MAX_VALUE;
+
+        boolean expired(long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt > 0;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package cyclops.companion.vavr;
+
+import io.vavr.concurrent.Future;
+import io.vavr.control.Try;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A Publisher that emits the results of a group of vavr Futures in the order they complete.
+ *
+ * Completion callbacks only enqueue the result; a single drain loop (guarded by a work-in-progress counter) emits
+ * queued results up to the outstanding demand, so results wait in the queue rather than being pushed past what the
+ * Subscriber requested. The first failed Future terminates the stream with its error. An invalid request is recorded
+ * and signalled from the drain loop too, so onError is never called concurrently with (or from inside) onNext.
+ */
+final class CompletionPublisher<T> implements Publisher<T> {
+
+    private final List<Future<? extends T>> futures = new ArrayList<>();
+
+    CompletionPublisher(Iterable<? extends Future<? extends T>> futures) {
+        futures.forEach(this.futures::add);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        CompletionSubscription<T> subscription = new CompletionSubscription<>(subscriber, futures.size());
+        subscriber.onSubscribe(subscription);
+        for (Future<? extends T> f : futures) {
+            f.onComplete(subscription::completed);
+        }
+        subscription.drain();
+    }
+
+    private static final class CompletionSubscription<T> extends AtomicInteger implements Subscription {
+        private final Subscriber<? super T> subscriber;
+        private final Queue<Try<? extends T>> ready = new ConcurrentLinkedQueue<>();
+        private final AtomicLong requested = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private int remaining;
+
+        CompletionSubscription(Subscriber<? super T> subscriber, int remaining) {
+            this.subscriber = subscriber;
+            this.remaining = remaining;
+        }
+
+        void completed(Try<? extends T> result) {
+            if (!cancelled) {
+                ready.offer(result);
+                drain();
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Request must be positive but was " + n);
+                drain();
+                return;
+            }
+            requested.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            ready.clear();
+        }
+
+        void drain() {
+            if (getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                long demand = requested.get();
+                long emitted = 0;
+                while (!cancelled) {
+                    Throwable invalid = error;
+                    if (invalid != null) {
+                        cancel();
+                        subscriber.onError(invalid);
+                        return;
+                    }
+                    Try<? extends T> next = ready.peek();
+                    if (next != null && next.isFailure()) {
+                        cancel();
+                        subscriber.onError(next.getCause());
+                        return;
+                    }
+                    if (remaining == 0) {
+                        cancel();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    if (next == null || emitted == demand) {
+                        break;
+                    }
+                    ready.poll();
+                    remaining--;
+                    emitted++;
+                    subscriber.onNext(next.get());
+                }
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+                missed = addAndGet(-missed);
+            } while (missed != 0 && !cancelled);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package cyclops.companion.vavr;
+
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import io.vavr.control.Try;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * A For Comprehension over vavr Futures that continues on the calling thread while each stage is already complete.
+ *
+ * Stages run in a loop (a trampoline) rather than as nested callbacks, so a comprehension over completed Futures
+ * neither hops threads nor grows the stack. Only when a stage is still running is a single completion callback
+ * registered, and the loop resumes on the supplied executor once it completes (directly in that callback when the stage
+ * already completes on the same executor, rather than handing off to it a second time).
+ */
+final class FutureComprehension implements Runnable {
+
+    private final ExecutorService executor;
+    private final Function<Object[], ? extends Future<?>>[] stages;
+    private final Function<Object[], ?> yieldingFunction;
+    private final Object[] values;
+    private Future<?> pending;
+    private int index;
+    private Promise<Object> promise;
+    private Try<Object> result;
+
+    private FutureComprehension(ExecutorService executor, Future<?> first,
+                                Function<Object[], ? extends Future<?>>[] stages, Function<Object[], ?> yieldingFunction) {
+        this.executor = executor;
+        this.pending = first;
+        this.stages = stages;
+        this.yieldingFunction = yieldingFunction;
+        this.values = new Object[stages.length + 1];
+    }
+
+    /**
+     * @param executor ExecutorService to resume on after waiting for a stage, and for callbacks on the result
+     * @param first Top level Future
+     * @param stages Generating function for each following stage, from the values of the stages before it
+     * @param yieldingFunction Generates the result from the values of all stages
+     * @return Future with the result, already completed if every stage was
+     */
+    @SuppressWarnings("unchecked")
+    static <R> Future<R> of(ExecutorService executor, Future<?> first, Function<Object[], ? extends Future<?>>[] stages,
+                            Function<Object[], ? extends R> yieldingFunction) {
+        FutureComprehension comprehension = new FutureComprehension(executor, first, stages, yieldingFunction);
+        comprehension.run();
+        synchronized (comprehension) {
+            if (comprehension.promise == null) {
+                return Future.fromTry(executor, (Try<R>) comprehension.result);
+            }
+            return (Future<R>) comprehension.promise.future();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            Future<?> current = pending;
+            if (!current.isCompleted()) {
+                synchronized (this) {
+                    if (promise == null) {
+                        promise = Promise.make(executor);
+                    }
+                }
+                if (current.executorService() == executor) {
+                    current.onComplete(t -> run());
+                } else {
+                    current.onComplete(t -> executor.execute(this));
+                }
+                return;
+            }
+            Try<?> value = current.getValue().get();
+            if (value.isFailure()) {
+                complete(Try.failure(value.getCause()));
+                return;
+            }
+            values[index++] = value.get();
+            try {
+                if (index == values.length) {
+                    complete(Try.success(yieldingFunction.apply(values)));
+                    return;
+                }
+                pending = stages[index - 1].apply(values);
+                if (pending == null) {
+                    throw new NullPointerException("generating function " + index + " returned null");
+                }
+            } catch (Throwable t) {
+                complete(Try.failure(t));
+                return;
+            }
+        }
+    }
+
+    private void complete(Try<Object> t) {
+        synchronized (this) {
+            if (promise == null) {
+                result = t;
+                return;
+            }
+        }
+        promise.complete(t);
+    }
+}
@@ -1,7 +1,6 @@
 package cyclops.companion.vavr;
 
 import com.oath.cyclops.anym.AnyMValue;
-import com.oath.cyclops.ReactiveConvertableSequence;
 import com.oath.cyclops.data.collections.extensions.CollectionX;
 import com.oath.cyclops.react.Status;
 import com.oath.cyclops.types.Value;
@@ -19,17 +18,30 @@ import cyclops.monads.WitnessType;
 import cyclops.monads.XorM;
 import cyclops.monads.transformers.FutureT;
 import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.Spouts;
+import cyclops.reactive.collections.immutable.LinkedListX;
 import cyclops.reactive.collections.mutable.ListX;
 import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
 import lombok.experimental.UtilityClass;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Utilty methods for working with JDK CompletableFutures
@@ -51,6 +63,50 @@ public class Futures {
     public static <T> Publisher<T> asPublisher(Future<T> f){
         return ToCyclops.future(f);
     }
+    /**
+     * Stream the results of the supplied Futures in the order they complete, rather than waiting for all of them (as
+     * {@link #sequence(Iterable)} does). The returned ReactiveSeq is reactive : results are emitted as they arrive, only as
+     * fast as they are requested, and the first failed Future terminates the Stream with its error.
+     *
+     * <pre>
+     * {@code
+     *  Futures.completionStream(ListX.of(slowShard, fastShard))
+     *         .forEach(client::send);
+     *  //sends the fastShard result first
+     * }
+     * </pre>
+     *
+     * @param futures Futures to stream the results of
+     * @return ReactiveSeq of results in completion order
+     */
+    public static <T> ReactiveSeq<T> completionStream(final Iterable<? extends Future<? extends T>> futures) {
+        return Spouts.from(new CompletionPublisher<T>(futures));
+    }
+    /**
+     * Memoize an asynchronous loading function. Concurrent calls that map to the same key share one in-flight Future,
+     * successful results are cached (up to maxSize entries, for ttl), and failed results are evicted so they are retried.
+     *
+     * <pre>
+     * {@code
+     *  Function<Long,Future<User>> users = Futures.memoize(id -> id, id -> Future.of(() -> client.load(id)),
+     *                                                        10_000, Duration.ofMinutes(5));
+     *  Future<ListX<User>> loaded = Futures.sequence(ids.map(users));
+     * }
+     * </pre>
+     *
+     * @see AsyncCache
+     * @param keyFn Function to determine the cache key for an input
+     * @param loader Asynchronous loading function to memoize
+     * @param maxSize Maximum number of cached entries
+     * @param ttl Time to live of a cached result
+     * @return Memoized loading function
+     */
+    public static <T, K, R> Function<T, Future<R>> memoize(final Function<? super T, ? extends K> keyFn,
+                                                           final Function<? super T, ? extends Future<? extends R>> loader,
+                                                           final long maxSize, final Duration ttl) {
+        AsyncCache<K, R> cache = AsyncCache.of(maxSize, ttl);
+        return t -> cache.get(keyFn.apply(t), k -> loader.apply(t));
+    }
     public static <T> AnyMValue<future,T> anyM(Future<T> future) {
         return AnyM.ofValue(future, VavrWitness.future.INSTANCE);
     }
@@ -115,9 +171,28 @@ public class Futures {
      * @return First Future to complete
      */
     public static <T> Future<T> anyOf(Future<T>... fts) {
-        return FromCyclops.future(cyclops.control.Future.anyOf(ToCyclops.futures(fts)));
+        return anyOf(false, fts);
 
     }
+    /**
+     * Select the first Future to complete, optionally cancelling the remaining Futures once it has
+     *
+     * @see CompletableFuture#anyOf(CompletableFuture...)
+     * @param cancelLosers true if the Futures that did not complete first should be cancelled
+     * @param fts Futures to race
+     * @return First Future to complete
+     */
+    @SafeVarargs
+    public static <T> Future<T> anyOf(boolean cancelLosers, Future<T>... fts) {
+        Promise<T> promise = Promise.make();
+        for (Future<T> f : fts) {
+            f.onComplete(t -> {
+                if (promise.tryComplete(t) && cancelLosers)
+                    cancelAll(fts);
+            });
+        }
+        return promise.future();
+    }
     /**
      * Wait until all the provided Future's to complete
      *
@@ -129,7 +204,66 @@ public class Futures {
      */
     public static <T> Future<T> allOf(Future<T>... fts) {
 
-        return FromCyclops.future(cyclops.control.Future.allOf(ToCyclops.futures(fts)));
+        return allOf(false, fts);
+    }
+    /**
+     * Wait until all the provided Future's to complete. When cancelLosers is set the returned Future fails as soon as any
+     * provided Future fails, and the Futures still running are cancelled.
+     *
+     * @see CompletableFuture#allOf(CompletableFuture...)
+     *
+     * @param cancelLosers true to fail fast and cancel the remaining Futures on the first failure
+     * @param fts Futures to  wait on
+     * @return Future that completes when all the provided Futures Complete. Empty Future result, or holds an Exception
+     *         from a provided Future that failed.
+     */
+    @SafeVarargs
+    public static <T> Future<T> allOf(boolean cancelLosers, Future<T>... fts) {
+        Promise<T> promise = Promise.make();
+        if (fts.length == 0) {
+            return promise.success(null).future();
+        }
+        AllOf state = new AllOf(fts.length);
+        for (Future<T> f : fts) {
+            f.onComplete(t -> {
+                if (t.isFailure()) {
+                    if (cancelLosers) {
+                        if (promise.tryFailure(t.getCause()))
+                            cancelAll(fts);
+                        return;
+                    }
+                    state.fail(t.getCause());
+                }
+                if (state.decrementAndGet() == 0) {
+                    Throwable error = state.error;
+                    if (error == null)
+                        promise.trySuccess(null);
+                    else
+                        promise.tryFailure(error);
+                }
+            });
+        }
+        return promise.future();
+    }
+
+    private static final class AllOf extends AtomicInteger {
+        private volatile Throwable error;
+
+        AllOf(int count) {
+            super(count);
+        }
+
+        synchronized void fail(Throwable t) {
+            if (error == null)
+                error = t;
+        }
+    }
+
+    private static void cancelAll(Future<?>[] fts) {
+        for (Future<?> f : fts) {
+            if (!f.isCompleted())
+                f.cancel();
+        }
     }
     /**
      * Block until a Quorum of results have returned as determined by the provided Predicate
@@ -156,9 +290,74 @@ public class Futures {
     @SafeVarargs
     public static <T> Future<ListX<T>> quorum(Predicate<Status<T>> breakout, Consumer<Throwable> errorHandler, Future<T>... fts) {
 
-        return FromCyclops.future(cyclops.companion.Futures.quorum(breakout,errorHandler, ToCyclops.futures(fts)));
+        return quorum(breakout, errorHandler, false, fts);
+
 
+    }
+    /**
+     * Block until a Quorum of results have returned as determined by the provided Predicate, optionally cancelling the
+     * Futures that have not returned once the Quorum is reached
+     *
+     * @param breakout Predicate that determines whether the block should be
+     *            continued or removed
+     * @param errorHandler Consumer to handle any exceptions thrown
+     * @param cancelLosers true if Futures still running once the Quorum is reached should be cancelled
+     * @param fts Futures to  wait on results from
+     * @return Future which will be populated with a Quorum of results (in the order they returned)
+     */
+    @SafeVarargs
+    public static <T> Future<ListX<T>> quorum(Predicate<Status<T>> breakout, Consumer<Throwable> errorHandler,
+                                              boolean cancelLosers, Future<T>... fts) {
+        Promise<ListX<T>> promise = Promise.make();
+        if (fts.length == 0) {
+            return promise.success(ListX.empty()).future();
+        }
+        Quorum<T> state = new Quorum<>(fts.length);
+        for (Future<T> f : fts) {
+            f.onComplete(t -> {
+                ListX<T> result = state.add(t, breakout, errorHandler);
+                if (result != null && promise.trySuccess(result) && cancelLosers)
+                    cancelAll(fts);
+            });
+        }
+        return promise.future();
+    }
 
+    private static final class Quorum<T> {
+        private final long start = System.nanoTime();
+        private final int total;
+        private final java.util.List<T> results;
+        private int completed;
+        private int errors;
+        private boolean done;
+
+        Quorum(int total) {
+            this.total = total;
+            this.results = new ArrayList<>(total);
+        }
+
+        /**
+         * Record a completion, ignoring any after the Quorum is decided (including cancelled losers)
+         *
+         * @return the results so far if this completion decides the Quorum, otherwise null
+         */
+        synchronized ListX<T> add(io.vavr.control.Try<T> t, Predicate<Status<T>> breakout, Consumer<Throwable> errorHandler) {
+            if (done)
+                return null;
+            if (t.isSuccess()) {
+                results.add(t.get());
+                completed++;
+            } else {
+                errors++;
+                errorHandler.accept(t.getCause());
+            }
+            if (completed + errors == total || breakout.test(new Status<>(completed, errors, total,
+                    System.nanoTime() - start, LinkedListX.fromIterable(new ArrayList<>(results))))) {
+                done = true;
+                return ListX.fromIterable(results);
+            }
+            return null;
+        }
     }
     /**
      * Block until a Quorum of results have returned as determined by the provided Predicate
@@ -184,7 +383,7 @@ public class Futures {
     @SafeVarargs
     public static <T> Future<ListX<T>> quorum(Predicate<Status<T>> breakout, Future<T>... fts) {
 
-        return FromCyclops.future(cyclops.companion.Futures.quorum(breakout, ToCyclops.futures(fts)));
+        return quorum(breakout, t -> { }, false, fts);
 
 
     }
@@ -206,8 +405,125 @@ public class Futures {
      */
     @SafeVarargs
     public static <T> Future<T> firstSuccess(Future<T>... fts) {
-        return FromCyclops.future(cyclops.control.Future.firstSuccess(ToCyclops.futures(fts)));
+        return firstSuccess(false, fts);
+
+    }
+    /**
+     * Select the first Future to return with a successful result, optionally cancelling the remaining Futures once it has.
+     * If every Future fails, the returned Future fails with the last error.
+     *
+     * @param cancelLosers true if the Futures that did not succeed first should be cancelled
+     * @param fts Futures to race
+     * @return First Future to return with a result
+     */
+    @SafeVarargs
+    public static <T> Future<T> firstSuccess(boolean cancelLosers, Future<T>... fts) {
+        Promise<T> promise = Promise.make();
+        AtomicInteger failures = new AtomicInteger(fts.length);
+        for (Future<T> f : fts) {
+            f.onComplete(t -> {
+                if (t.isSuccess()) {
+                    if (promise.trySuccess(t.get()) && cancelLosers)
+                        cancelAll(fts);
+                } else if (failures.decrementAndGet() == 0) {
+                    promise.tryFailure(t.getCause());
+                }
+            });
+        }
+        return promise.future();
+    }
+
+    /**
+     * Fail the returned Future with a {@link TimeoutException} if the supplied Future has not completed within the
+     * timeout. The timeout is tracked by a single shared timer thread, so no thread blocks waiting for the Future.
+     *
+     * <pre>
+     * {@code
+     *  Future<User> user = Futures.withTimeout(client.load(10l), Duration.ofMillis(200));
+     * }
+     * </pre>
+     *
+     * @param future Future to time out
+     * @param timeout Time to wait for the Future to complete
+     * @return Future that completes with the result of the supplied Future, or fails with a TimeoutException
+     */
+    public static <T> Future<T> withTimeout(final Future<T> future, final Duration timeout) {
+        return scheduleTimeout(future, timeout, promise ->
+                promise.tryFailure(new TimeoutException("Future did not complete within " + timeout)));
+    }
 
+    /**
+     * Complete the returned Future with a fallback value if the supplied Future has not completed within the timeout.
+     * The timeout is tracked by a single shared timer thread, so no thread blocks waiting for the Future.
+     *
+     * <pre>
+     * {@code
+     *  Future<ListX<Offer>> offers = Futures.withTimeout(client.offers(10l), Duration.ofMillis(200), ListX::empty);
+     * }
+     * </pre>
+     *
+     * @param future Future to time out
+     * @param timeout Time to wait for the Future to complete
+     * @param fallback Supplier of the value to complete with on timeout (called on the timer thread)
+     * @return Future that completes with the result of the supplied Future, or the fallback value
+     */
+    public static <T> Future<T> withTimeout(final Future<T> future, final Duration timeout,
+                                            final Supplier<? extends T> fallback) {
+        return scheduleTimeout(future, timeout, promise -> {
+            if (!promise.isCompleted())
+                promise.tryComplete(io.vavr.control.Try.of(fallback::get));
+        });
+    }
+
+    private static <T> Future<T> scheduleTimeout(final Future<T> future, final Duration timeout,
+                                                 final Consumer<Promise<T>> onTimeout) {
+        if (future.isCompleted())
+            return future;
+        Promise<T> promise = Promise.make(future.executorService());
+        ScheduledFuture<?> timer = Timer.INSTANCE.schedule(() -> onTimeout.accept(promise),
+                                                           timeout.toNanos(), TimeUnit.NANOSECONDS);
+        future.onComplete(t -> {
+            timer.cancel(false);
+            promise.tryComplete(t);
+        });
+        return promise.future();
+    }
+
+    /**
+     * A single daemon thread for scheduling Future timeouts, created on first use. Cancelled timeouts are removed
+     * straight away so completed Futures don't retain their timer tasks.
+     */
+    private static final class Timer {
+        static final ScheduledThreadPoolExecutor INSTANCE = create();
+
+        private static ScheduledThreadPoolExecutor create() {
+            ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, r -> {
+                Thread thread = new Thread(r, "vavr-futures-timeout");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timer.setRemoveOnCancelPolicy(true);
+            return timer;
+        }
+    }
+
+    /**
+     * Deadline shared by the stages of a For Comprehension : no further stage is started once it has passed.
+     */
+    private static final class Deadline {
+        private final long at;
+        private final Duration timeout;
+
+        Deadline(Duration timeout) {
+            this.at = System.nanoTime() + timeout.toNanos();
+            this.timeout = timeout;
+        }
+
+        <T> Future<T> next(Supplier<? extends Future<T>> stage) {
+            if (System.nanoTime() - at >= 0)
+                return Future.failed(new TimeoutException("Deadline of " + timeout + " passed"));
+            return stage.get();
+        }
     }
 
     /**
@@ -473,6 +789,255 @@ public class Futures {
     }
 
 
+    /**
+     * Perform a For Comprehension over a Future, accepting 3 generating functions, that must complete within the supplied
+     * timeout. The deadline is shared by every stage : the result fails with a {@link TimeoutException} once it passes,
+     * and no further generating function is called.
+     *
+     * @see #forEach4(Future, Function, BiFunction, Function3, Function4)
+     * @param value1 top level Future
+     * @param value2 Nested Future
+     * @param value3 Nested Future
+     * @param value4 Nested Future
+     * @param yieldingFunction Generates a result per combination
+     * @param timeout Time for the whole comprehension to complete
+     * @return Future with a combined value generated by the yielding function
+     */
+    public static <T1, T2, T3, R1, R2, R3, R> Future<R> forEach4(Future<? extends T1> value1,
+                                                                 Function<? super T1, ? extends Future<R1>> value2,
+                                                                 BiFunction<? super T1, ? super R1, ? extends Future<R2>> value3,
+                                                                 Function3<? super T1, ? super R1, ? super R2, ? extends Future<R3>> value4,
+                                                                 Function4<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction,
+                                                                 Duration timeout) {
+        Deadline deadline = new Deadline(timeout);
+        return withTimeout(forEach4(value1,
+                                    in -> deadline.next(() -> value2.apply(in)),
+                                    (in, ina) -> deadline.next(() -> value3.apply(in, ina)),
+                                    (in, ina, inb) -> deadline.next(() -> value4.apply(in, ina, inb)),
+                                    yieldingFunction), timeout);
+    }
+
+    /**
+     * Perform a For Comprehension over a Future, accepting 2 generating functions, that must complete within the supplied
+     * timeout. The deadline is shared by every stage : the result fails with a {@link TimeoutException} once it passes,
+     * and no further generating function is called.
+     *
+     * @see #forEach3(Future, Function, BiFunction, Function3)
+     * @param value1 top level Future
+     * @param value2 Nested Future
+     * @param value3 Nested Future
+     * @param yieldingFunction Generates a result per combination
+     * @param timeout Time for the whole comprehension to complete
+     * @return Future with a combined value generated by the yielding function
+     */
+    public static <T1, T2, R1, R2, R> Future<R> forEach3(Future<? extends T1> value1,
+                                                         Function<? super T1, ? extends Future<R1>> value2,
+                                                         BiFunction<? super T1, ? super R1, ? extends Future<R2>> value3,
+                                                         Function3<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction,
+                                                         Duration timeout) {
+        Deadline deadline = new Deadline(timeout);
+        return withTimeout(forEach3(value1,
+                                    in -> deadline.next(() -> value2.apply(in)),
+                                    (in, ina) -> deadline.next(() -> value3.apply(in, ina)),
+                                    yieldingFunction), timeout);
+    }
+
+    /**
+     * Perform a For Comprehension over a Future, accepting a generating function, that must complete within the supplied
+     * timeout. The deadline is shared by both stages : the result fails with a {@link TimeoutException} once it passes,
+     * and the generating function is not called if it has already passed.
+     *
+     * @see #forEach2(Future, Function, BiFunction)
+     * @param value1 top level Future
+     * @param value2 Nested Future
+     * @param yieldingFunction Generates a result per combination
+     * @param timeout Time for the whole comprehension to complete
+     * @return Future with a combined value generated by the yielding function
+     */
+    public static <T, R1, R> Future<R> forEach2(Future<? extends T> value1, Function<? super T, Future<R1>> value2,
+                                                BiFunction<? super T, ? super R1, ? extends R> yieldingFunction,
+                                                Duration timeout) {
+        Deadline deadline = new Deadline(timeout);
+        return withTimeout(forEach2(value1, in -> deadline.next(() -> value2.apply(in)), yieldingFunction), timeout);
+    }
+
+    /**
+     * Perform a For Comprehension over a Future, accepting 3 generating functions, continuing on the current thread while
+     * each Future is already complete. Only a stage that is still running causes a hop, to the supplied executor, so a
+     * comprehension over cached (completed) Futures runs without any thread hops or extra stack depth.
+     *
+     * @see #forEach4(Future, Function, BiFunction, Function3, Function4)
+     * @param value1 top level Future
+     * @param value2 Nested Future
+     * @param value3 Nested Future
+     * @param value4 Nested Future
+     * @param yieldingFunction Generates a result per combination
+     * @param executor ExecutorService to continue on after waiting for a Future
+     * @return Future with a combined value generated by the yielding function
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, T3, R1, R2, R3, R> Future<R> forEach4(Future<? extends T1> value1,
+                                                                 Function<? super T1, ? extends Future<R1>> value2,
+                                                                 BiFunction<? super T1, ? super R1, ? extends Future<R2>> value3,
+                                                                 Function3<? super T1, ? super R1, ? super R2, ? extends Future<R3>> value4,
+                                                                 Function4<? super T1, ? super R1, ? super R2, ? super R3, ? extends R> yieldingFunction,
+                                                                 ExecutorService executor) {
+        return FutureComprehension.of(executor, value1, new Function[]{
+                        (Function<Object[], Future<R1>>) v -> value2.apply((T1) v[0]),
+                        (Function<Object[], Future<R2>>) v -> value3.apply((T1) v[0], (R1) v[1]),
+                        (Function<Object[], Future<R3>>) v -> value4.apply((T1) v[0], (R1) v[1], (R2) v[2])},
+                v -> yieldingFunction.apply((T1) v[0], (R1) v[1], (R2) v[2], (R3) v[3]));
+    }
+
+    /**
+     * Perform a For Comprehension over a Future, accepting 2 generating functions, continuing on the current thread while
+     * each Future is already complete.
+     *
+     * @see #forEach4(Future, Function, BiFunction, Function3, Function4, ExecutorService)
+     * @param value1 top level Future
+     * @param value2 Nested Future
+     * @param value3 Nested Future
+     * @param yieldingFunction Generates a result per combination
+     * @param executor ExecutorService to continue on after waiting for a Future
+     * @return Future with a combined value generated by the yielding function
+     */
+    @SuppressWarnings("unchecked")
+    public static <T1, T2, R1, R2, R> Future<R> forEach3(Future<? extends T1> value1,
+                                                         Function<? super T1, ? extends Future<R1>> value2,
+                                                         BiFunction<? super T1, ? super R1, ? extends Future<R2>> value3,
+                                                         Function3<? super T1, ? super R1, ? super R2, ? extends R> yieldingFunction,
+                                                         ExecutorService executor) {
+        return FutureComprehension.of(executor, value1, new Function[]{
+                        (Function<Object[], Future<R1>>) v -> value2.apply((T1) v[0]),
+                        (Function<Object[], Future<R2>>) v -> value3.apply((T1) v[0], (R1) v[1])},
+                v -> yieldingFunction.apply((T1) v[0], (R1) v[1], (R2) v[2]));
+    }
+
+    /**
+     * Perform a For Comprehension over a Future, accepting a generating function, continuing on the current thread while
+     * each Future is already complete.
+     *
+     * @see #forEach4(Future, Function, BiFunction, Function3, Function4, ExecutorService)
+     * @param value1 top level Future
+     * @param value2 Nested Future
+     * @param yieldingFunction Generates a result per combination
+     * @param executor ExecutorService to continue on after waiting for a Future
+     * @return Future with a combined value generated by the yielding function
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R1, R> Future<R> forEach2(Future<? extends T> value1, Function<? super T, ? extends Future<R1>> value2,
+                                                BiFunction<? super T, ? super R1, ? extends R> yieldingFunction,
+                                                ExecutorService executor) {
+        return FutureComprehension.of(executor, value1, new Function[]{
+                        (Function<Object[], Future<R1>>) v -> value2.apply((T) v[0])},
+                v -> yieldingFunction.apply((T) v[0], (R1) v[1]));
+    }
+
+    /**
+     * Asynchronously apply a Future returning function to each value, with at most maxConcurrency Futures in flight at
+     * any one time. As each Future completes the next value is started in its place. The first failure fails the result
+     * and no further values are started.
+     *
+     * <pre>
+     * {@code
+     *  Future<ListX<User>> users = Futures.traverse(ids, id -> client.load(id), 16);
+     *  //at most 16 concurrent loads, results in the same order as ids
+     * }
+     * </pre>
+     *
+     * @param values Values to traverse
+     * @param fn Function that starts an asynchronous call for each value
+     * @param maxConcurrency Maximum number of Futures in flight at once
+     * @return Future with a List of results in input order
+     */
+    public static <T, R> Future<ListX<R>> traverse(final Iterable<? extends T> values,
+                                                   final Function<? super T, ? extends Future<? extends R>> fn,
+                                                   final int maxConcurrency) {
+        return traverse(values, fn, maxConcurrency, Future.DEFAULT_EXECUTOR_SERVICE);
+    }
+
+    /**
+     * Asynchronously apply a Future returning function to each value, with at most maxConcurrency Futures in flight at
+     * any one time
+     *
+     * @see #traverse(Iterable, Function, int)
+     * @param values Values to traverse
+     * @param fn Function that starts an asynchronous call for each value
+     * @param maxConcurrency Maximum number of Futures in flight at once
+     * @param executor ExecutorService the function is called on, and the returned Future completes on
+     * @return Future with a List of results in input order
+     */
+    public static <T, R> Future<ListX<R>> traverse(final Iterable<? extends T> values,
+                                                   final Function<? super T, ? extends Future<? extends R>> fn,
+                                                   final int maxConcurrency, final ExecutorService executor) {
+        if (maxConcurrency < 1)
+            throw new IllegalArgumentException("maxConcurrency must be at least 1 but was " + maxConcurrency);
+        Traverse<T, R> traverse = new Traverse<>(values.iterator(), fn, executor);
+        for (int i = 0; i < maxConcurrency; i++) {
+            if (!traverse.startNext())
+                break;
+        }
+        return traverse.promise.future();
+    }
+
+    private static final class Traverse<T, R> {
+        private final Promise<ListX<R>> promise;
+        private final java.util.Iterator<? extends T> values;
+        private final Function<? super T, ? extends Future<? extends R>> fn;
+        private final ExecutorService executor;
+        private final java.util.List<R> results = new ArrayList<>();
+        private int running;
+
+        Traverse(java.util.Iterator<? extends T> values, Function<? super T, ? extends Future<? extends R>> fn,
+                 ExecutorService executor) {
+            this.promise = Promise.make(executor);
+            this.values = values;
+            this.fn = fn;
+            this.executor = executor;
+        }
+
+        /**
+         * Take the next value (if any) and start its Future, completing the result once nothing is left running
+         *
+         * @return true if a value was started
+         */
+        boolean startNext() {
+            T value;
+            int index;
+            synchronized (this) {
+                if (promise.isCompleted())
+                    return false;
+                if (!values.hasNext()) {
+                    if (running == 0)
+                        promise.trySuccess(ListX.fromIterable(results));
+                    return false;
+                }
+                value = values.next();
+                index = results.size();
+                results.add(null);
+                running++;
+            }
+            executor.execute(() -> {
+                try {
+                    fn.apply(value).onComplete(t -> {
+                        if (t.isFailure()) {
+                            promise.tryFailure(t.getCause());
+                            return;
+                        }
+                        synchronized (this) {
+                            results.set(index, t.get());
+                            running--;
+                        }
+                        startNext();
+                    });
+                } catch (Throwable t) {
+                    promise.tryFailure(t);
+                }
+            });
+            return true;
+        }
+    }
+
     /**
      * Sequence operation, take a Collection of Futures and turn it into a Future with a Collection
      * By constrast with {@link Futures#sequencePresent(Iterable)}, if any Futures are empty the result
@@ -495,7 +1060,7 @@ public class Futures {
      * @return  Maybe with a List of values
      */
     public static <T> Future<ListX<T>> sequence(final Iterable<Future<T>> opts) {
-        return sequence(cyclops.companion.Streams.stream(opts)).map(s -> s.to(ReactiveConvertableSequence::converter).listX());
+        return sequence(toArray(opts.iterator()), values -> ListX.fromIterable(Arrays.asList(values)));
 
     }
     /**
@@ -517,7 +1082,8 @@ public class Futures {
      * @return Future with a List of values
      */
     public static <T> Future<ListX<T>> sequencePresent(final Iterable<Future<T>> opts) {
-        return sequence(cyclops.companion.Streams.stream(opts).filter(Future::isCompleted)).map(s->s.to(ReactiveConvertableSequence::converter).listX());
+        return sequence(toArray(cyclops.companion.Streams.stream(opts).filter(Future::isCompleted).iterator()),
+                        values -> ListX.fromIterable(Arrays.asList(values)));
     }
     /**
      * Sequence operation, take a Collection of Futures and turn it into a Future with a Collection
@@ -541,10 +1107,46 @@ public class Futures {
      * @return  Future with a List of values
      */
     public static <T> Future<ReactiveSeq<T>> sequence(final java.util.stream.Stream<Future<T>> opts) {
-        return AnyM.sequence(opts.map(Futures::anyM), future.INSTANCE)
-                .map(ReactiveSeq::fromStream)
-                .to(VavrWitness::future);
+        return sequence(toArray(opts.iterator()), values -> ReactiveSeq.fromIterable(Arrays.asList(values)));
+
+    }
+    public static <T> Future<ReactiveSeq<T>> sequence(final ReactiveSeq<Future<T>> opts) {
+        return sequence(toArray(opts.iterator()), values -> ReactiveSeq.fromIterable(Arrays.asList(values)));
+
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Future<T>[] toArray(java.util.Iterator<Future<T>> it) {
+        java.util.List<Future<T>> list = new ArrayList<>();
+        it.forEachRemaining(list::add);
+        return list.toArray(new Future[list.size()]);
+    }
 
+    /**
+     * Fill a pre-sized array from the completion callback of each Future, completing once when the last slot is filled
+     * (or failing on the first failure)
+     */
+    @SuppressWarnings("unchecked")
+    private static <T, R> Future<R> sequence(final Future<T>[] fts, final Function<T[], R> finisher) {
+        if (fts.length == 0) {
+            return Future.successful(finisher.apply((T[]) new Object[0]));
+        }
+        Promise<R> promise = Promise.make();
+        T[] values = (T[]) new Object[fts.length];
+        AtomicInteger remaining = new AtomicInteger(fts.length);
+        for (int i = 0; i < fts.length; i++) {
+            final int index = i;
+            fts[i].onComplete(t -> {
+                if (t.isFailure()) {
+                    promise.tryFailure(t.getCause());
+                } else {
+                    values[index] = t.get();
+                    if (remaining.decrementAndGet() == 0)
+                        promise.trySuccess(finisher.apply(values));
+                }
+            });
+        }
+        return promise.future();
     }
     /**
      * Accummulating operation using the supplied Reducer (@see cyclops2.Reducers). A typical use case is to accumulate into a Persistent Collection type.
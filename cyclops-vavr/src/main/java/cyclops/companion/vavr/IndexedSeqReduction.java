@@ -0,0 +1,63 @@
+package cyclops.companion.vavr;
+
+import cyclops.function.Monoid;
+import io.vavr.collection.IndexedSeq;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Fork / join map reduce over an index range of a vavr IndexedSeq (Vector, Array).
+ *
+ * Ranges are split in half until they are no larger than the threshold, each range is reduced sequentially
+ * from the Monoid zero, and partial results are combined left to right, so the Monoid only needs to be associative.
+ */
+final class IndexedSeqReduction<T, R> extends RecursiveTask<R> {
+
+    private static final int MIN_CHUNK = 1024;
+
+    private final IndexedSeq<T> seq;
+    private final int from;
+    private final int to;
+    private final int threshold;
+    private final Function<? super T, ? extends R> mapper;
+    private final Monoid<R> monoid;
+
+    private IndexedSeqReduction(IndexedSeq<T> seq, int from, int to, int threshold,
+                                Function<? super T, ? extends R> mapper, Monoid<R> monoid) {
+        this.seq = seq;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+        this.mapper = mapper;
+        this.monoid = monoid;
+    }
+
+    static <T, R> R mapReduce(IndexedSeq<T> seq, Function<? super T, ? extends R> mapper, Monoid<R> monoid, ForkJoinPool pool) {
+        int size = seq.size();
+        int threshold = Math.max(MIN_CHUNK, size / (pool.getParallelism() * 4));
+        IndexedSeqReduction<T, R> task = new IndexedSeqReduction<>(seq, 0, size, threshold, mapper, monoid);
+        if (size <= threshold) {
+            return task.compute();
+        }
+        return pool.invoke(task);
+    }
+
+    @Override
+    protected R compute() {
+        if (to - from <= threshold) {
+            R result = monoid.zero();
+            for (int i = from; i < to; i++) {
+                result = monoid.apply(result, mapper.apply(seq.get(i)));
+            }
+            return result;
+        }
+        int mid = (from + to) >>> 1;
+        IndexedSeqReduction<T, R> left = new IndexedSeqReduction<>(seq, from, mid, threshold, mapper, monoid);
+        IndexedSeqReduction<T, R> right = new IndexedSeqReduction<>(seq, mid, to, threshold, mapper, monoid);
+        left.fork();
+        R rightResult = right.compute();
+        return monoid.apply(left.join(), rightResult);
+    }
+}
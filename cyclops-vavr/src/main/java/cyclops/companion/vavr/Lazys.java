@@ -1,6 +1,5 @@
 package cyclops.companion.vavr;
 
-import com.oath.cyclops.ReactiveConvertableSequence;
 import com.oath.cyclops.types.Value;
 import cyclops.control.Eval;
 import cyclops.conversion.vavr.FromCyclops;
@@ -9,8 +8,6 @@ import cyclops.function.Function3;
 import cyclops.function.Function4;
 import cyclops.function.Monoid;
 import cyclops.function.Reducer;
-import cyclops.monads.AnyM;
-import cyclops.monads.Witness;
 import cyclops.monads.WitnessType;
 import cyclops.monads.transformers.EvalT;
 import cyclops.reactive.ReactiveSeq;
@@ -18,6 +15,9 @@ import cyclops.reactive.collections.mutable.ListX;
 import io.vavr.Lazy;
 import org.reactivestreams.Publisher;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -211,7 +211,7 @@ public class Lazys {
      * @return  Maybe with a List of values
      */
     public static <T> Lazy<ListX<T>> sequence(final Iterable<Lazy<T>> opts) {
-        return sequence(ReactiveSeq.fromIterable(opts)).map(s -> s.to(ReactiveConvertableSequence::converter).listX());
+        return sequence(opts.iterator()).map(ListX::fromIterable);
 
     }
     /**
@@ -233,7 +233,7 @@ public class Lazys {
      * @return Lazy with a List of values
      */
     public static <T> Lazy<ListX<T>> sequencePresent(final Iterable<Lazy<T>> opts) {
-        return sequence(ReactiveSeq.fromIterable(opts).filter(Lazy::isEvaluated)).map(s->s.to(ReactiveConvertableSequence::converter).listX());
+        return sequence(ReactiveSeq.fromIterable(opts).filter(Lazy::isEvaluated).iterator()).map(ListX::fromIterable);
     }
     /**
      * Sequence operation, take a Collection of Lazys and turn it into a Lazy with a Collection
@@ -257,17 +257,25 @@ public class Lazys {
      * @return  Lazy with a List of values
      */
     public static <T> Lazy<ReactiveSeq<T>> sequence(final java.util.stream.Stream<Lazy<T>> opts) {
-        return FromCyclops.eval(AnyM.sequence(opts.map(ToCyclops::eval).map(AnyM::fromEval), Witness.eval.INSTANCE)
-                .map(ReactiveSeq::fromStream)
-                .to(Witness::eval));
+        return sequence(opts.iterator()).map(ReactiveSeq::fromIterable);
 
     }
   public static <T> Lazy<ReactiveSeq<T>> sequence(final ReactiveSeq<Lazy<T>> opts) {
-    return FromCyclops.eval(AnyM.sequence(opts.map(ToCyclops::eval).map(AnyM::fromEval), Witness.eval.INSTANCE)
-      .map(ReactiveSeq::fromStream)
-      .to(Witness::eval));
+    return sequence(opts.iterator()).map(ReactiveSeq::fromIterable);
 
   }
+
+    /**
+     * A single Lazy that, when evaluated, evaluates each Lazy in turn into one List
+     */
+    private static <T> Lazy<List<T>> sequence(final Iterator<Lazy<T>> it) {
+        return Lazy.of(() -> {
+            List<T> values = new ArrayList<>();
+            while (it.hasNext())
+                values.add(it.next().get());
+            return values;
+        });
+    }
     /**
      * Accummulating operation using the supplied Reducer (@see cyclops2.Reducers). A typical use case is to accumulate into a Persistent Collection type.
      * Accumulates the present results, ignores empty Lazys.
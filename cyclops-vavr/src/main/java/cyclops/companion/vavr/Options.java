@@ -1,7 +1,6 @@
 package cyclops.companion.vavr;
 
 import com.oath.cyclops.anym.AnyMValue;
-import com.oath.cyclops.ReactiveConvertableSequence;
 import com.oath.cyclops.data.collections.extensions.CollectionX;
 import com.oath.cyclops.types.Value;
 import cyclops.control.Either;
@@ -26,6 +25,9 @@ import org.reactivestreams.Publisher;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -375,7 +377,7 @@ public class Options {
      * @return  Maybe with a List of values
      */
     public static <T> Option<ListX<T>> sequence(final Iterable<Option<T>> opts) {
-        return sequence(ReactiveSeq.fromIterable(opts)).map(s -> s.to(ReactiveConvertableSequence::converter).listX());
+        return sequence(opts.iterator()).map(ListX::fromIterable);
 
     }
     /**
@@ -397,7 +399,7 @@ public class Options {
      * @return Option with a List of values
      */
     public static <T> Option<ListX<T>> sequencePresent(final Iterable<Option<T>> opts) {
-        return sequence(ReactiveSeq.fromIterable(opts).filter(Option::isDefined)).map(s->s.to(ReactiveConvertableSequence::converter).listX());
+        return sequence(ReactiveSeq.fromIterable(opts).filter(Option::isDefined).iterator()).map(ListX::fromIterable);
     }
     /**
      * Sequence operation, take a Collection of Options and turn it into a Option with a Collection
@@ -421,17 +423,27 @@ public class Options {
      * @return  Option with a List of values
      */
     public static <T> Option<ReactiveSeq<T>> sequence(final java.util.stream.Stream<Option<T>> opts) {
-        return AnyM.sequence(opts.map(Options::anyM), option.INSTANCE)
-                .map(ReactiveSeq::fromStream)
-                .to(VavrWitness::option);
+        return sequence(opts.iterator()).map(ReactiveSeq::fromIterable);
 
     }
     public static <T> Option<ReactiveSeq<T>> sequence(final ReactiveSeq<Option<T>> opts) {
-      return AnyM.sequence(opts.map(Options::anyM), option.INSTANCE)
-        .map(ReactiveSeq::fromStream)
-        .to(VavrWitness::option);
+      return sequence(opts.iterator()).map(ReactiveSeq::fromIterable);
 
     }
+
+    /**
+     * Collect the values in a single pass, stopping at the first empty Option
+     */
+    private static <T> Option<List<T>> sequence(final Iterator<Option<T>> it) {
+        List<T> values = new ArrayList<>();
+        while (it.hasNext()) {
+            Option<T> next = it.next();
+            if (next.isEmpty())
+                return Option.none();
+            values.add(next.get());
+        }
+        return Option.some(values);
+    }
     /**
      * Accummulating operation using the supplied Reducer (@see cyclops2.Reducers). A typical use case is to accumulate into a Persistent Collection type.
      * Accumulates the present results, ignores empty Options.
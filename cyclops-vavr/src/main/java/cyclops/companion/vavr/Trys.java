@@ -2,7 +2,6 @@ package cyclops.companion.vavr;
 
 
 import com.oath.cyclops.anym.AnyMValue;
-import com.oath.cyclops.ReactiveConvertableSequence;
 import com.oath.cyclops.types.MonadicValue;
 import cyclops.control.Either;
 import cyclops.conversion.vavr.FromCyclops;
@@ -22,6 +21,9 @@ import io.vavr.control.Try;
 import lombok.experimental.UtilityClass;
 import org.reactivestreams.Publisher;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -351,7 +353,7 @@ public class Trys {
      * @return  Maybe with a List of values
      */
     public static <T> Try<ListX<T>> sequence(final Iterable<Try<T>> opts) {
-        return sequence(ReactiveSeq.fromIterable(opts)).map(s -> s.to(ReactiveConvertableSequence::converter).listX());
+        return sequence(opts.iterator()).map(ListX::fromIterable);
 
     }
     /**
@@ -373,7 +375,7 @@ public class Trys {
      * @return Try with a List of values
      */
     public static <T> Try<ListX<T>> sequencePresent(final Iterable<Try<T>> opts) {
-        return sequence(ReactiveSeq.fromIterable(opts).filter(Try::isSuccess)).map(s->s.to(ReactiveConvertableSequence::converter).listX());
+        return sequence(ReactiveSeq.fromIterable(opts).filter(Try::isSuccess).iterator()).map(ListX::fromIterable);
     }
     /**
      * Sequence operation, take a Collection of Trys and turn it into a Try with a Collection
@@ -397,17 +399,27 @@ public class Trys {
      * @return  Try with a List of values
      */
     public static <T> Try<ReactiveSeq<T>> sequence(final java.util.stream.Stream<Try<T>> opts) {
-        return AnyM.sequence(opts.map(Trys::anyM), tryType.INSTANCE)
-                .map(ReactiveSeq::fromStream)
-                .to(VavrWitness::tryType);
+        return sequence(opts.iterator()).map(ReactiveSeq::fromIterable);
 
     }
     public static <T> Try<ReactiveSeq<T>> sequence(final ReactiveSeq<Try<T>> opts) {
-      return AnyM.sequence(opts.map(Trys::anyM), tryType.INSTANCE)
-        .map(ReactiveSeq::fromStream)
-        .to(VavrWitness::tryType);
+      return sequence(opts.iterator()).map(ReactiveSeq::fromIterable);
 
     }
+
+    /**
+     * Collect the successful values in a single pass, stopping at (and returning) the first failure
+     */
+    private static <T> Try<List<T>> sequence(final Iterator<Try<T>> it) {
+        List<T> values = new ArrayList<>();
+        while (it.hasNext()) {
+            Try<T> next = it.next();
+            if (next.isFailure())
+                return Try.failure(next.getCause());
+            values.add(next.get());
+        }
+        return Try.success(values);
+    }
     /**
      * Accummulating operation using the supplied Reducer (@see cyclops2.Reducers). A typical use case is to accumulate into a Persistent Collection type.
      * Accumulates the present results, ignores empty Trys.
@@ -4,12 +4,14 @@ import com.oath.cyclops.anym.AnyMSeq;
 import cyclops.collections.vavr.VavrVectorX;
 import cyclops.function.Function3;
 import cyclops.function.Function4;
+import cyclops.function.Monoid;
 import cyclops.monads.AnyM;
 import cyclops.monads.VavrWitness.vector;
 import cyclops.monads.WitnessType;
 import cyclops.monads.transformers.ListT;
 import io.vavr.collection.Vector;
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -26,6 +28,35 @@ public class Vectors {
         return AnyM.ofSeq(option, vector.INSTANCE);
     }
 
+    /**
+     * Map each element of a Vector and reduce the results with the supplied Monoid (e.g. from VavrMonoids) in parallel on
+     * the common ForkJoinPool. The Vector is split into index ranges (no copying), and partial results are combined in
+     * order, so the Monoid need not be commutative.
+     *
+     * <pre>
+     * {@code
+     *   Vector<Integer> all = Vectors.parallelMapReduce(Vector.range(0,100_000), i->Vector.of(i*2), VavrMonoids.vectorConcat());
+     *   int total = Vectors.parallelMapReduce(Vector.range(0,100_000), i->i, Monoids.intSum);
+     * }
+     * </pre>
+     *
+     * @param vector Vector to reduce
+     * @param mapper Function applied to each element
+     * @param monoid Associative combiner with identity
+     * @return Combined result
+     */
+    public static <T,R> R parallelMapReduce(Vector<T> vector, Function<? super T, ? extends R> mapper, Monoid<R> monoid) {
+        return parallelMapReduce(vector, mapper, monoid, ForkJoinPool.commonPool());
+    }
+
+    public static <T,R> R parallelMapReduce(Vector<T> vector, Function<? super T, ? extends R> mapper, Monoid<R> monoid, ForkJoinPool pool) {
+        return IndexedSeqReduction.mapReduce(vector, mapper, monoid, pool);
+    }
+
+    public static <T> T parallelReduce(Vector<T> vector, Monoid<T> monoid) {
+        return parallelMapReduce(vector, Function.identity(), monoid);
+    }
+
     public static  <T,R> Vector<R> tailRec(T initial, Function<? super T, ? extends Vector<? extends io.vavr.control.Either<T, R>>> fn) {
         Vector<io.vavr.control.Either<T, R>> next = Vector.of(io.vavr.control.Either.left(initial));
 
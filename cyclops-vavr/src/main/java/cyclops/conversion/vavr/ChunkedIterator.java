@@ -0,0 +1,61 @@
+package cyclops.conversion.vavr;
+
+import io.vavr.collection.Iterator;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A single pass vavr Iterator (and so Traversable) over a java.util.Spliterator, that pulls elements from the source a
+ * block at a time into a reused buffer rather than one by one through a java.util.stream iterator adapter.
+ */
+final class ChunkedIterator<T> implements Iterator<T>, Consumer<T> {
+
+    private final Spliterator<T> source;
+    private final Object[] buffer;
+    private int index;
+    private int size;
+    private boolean exhausted;
+
+    ChunkedIterator(Spliterator<T> source, int chunkSize) {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("chunkSize must be at least 1 but was " + chunkSize);
+        this.source = source;
+        this.buffer = new Object[chunkSize];
+    }
+
+    @Override
+    public void accept(T t) {
+        buffer[size++] = t;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (index < size)
+            return true;
+        if (exhausted)
+            return false;
+        index = 0;
+        size = 0;
+        while (size < buffer.length && source.tryAdvance(this)) {
+        }
+        exhausted = size < buffer.length;
+        return size > 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        T next = (T) buffer[index];
+        buffer[index++] = null;
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return "ChunkedIterator";
+    }
+}
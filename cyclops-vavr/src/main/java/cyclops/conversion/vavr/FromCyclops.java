@@ -1,5 +1,8 @@
 package cyclops.conversion.vavr;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Stream;
 
 
@@ -13,20 +16,101 @@ import io.vavr.concurrent.Promise;
 import io.vavr.control.Option;
 import io.vavr.control.Try;
 import io.vavr.control.Validation;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
 
 
 public class FromCyclops {
+
     public static <T> Lazy<T> eval(Eval<T> opt){
+        if (opt instanceof LazyEval)
+            return ((LazyEval<T>) opt).unwrap();
         return Lazy.of(opt);
     }
     public static <T> Future<T> future(cyclops.control.Future<T> future){
-        Promise<T> result =  Promise.make();
+        return future(Future.DEFAULT_EXECUTOR_SERVICE, future);
+    }
 
-        future.peek(n->result.complete(Try.success(n)));
+    /**
+     * Convert a cyclops Future to a vavr Future without blocking. The vavr Future is completed from a callback on the
+     * thread that completes the cyclops Future, with the same value or error (including a CancellationException), and
+     * cancelling the vavr Future cancels the cyclops Future. A cyclops Future converted from a vavr Future (by
+     * {@link ToCyclops#future(Future)}) with the same ExecutorService is converted back to the original vavr Future, unless
+     * it has been completed directly with a different result.
+     *
+     * @param executor ExecutorService vavr callbacks on the returned Future run on
+     * @param future cyclops Future to convert
+     * @return vavr Future
+     */
+    public static <T> Future<T> future(ExecutorService executor, cyclops.control.Future<T> future){
+        if (future instanceof VavrFuture) {
+            Future<T> source = ((VavrFuture<T>) future).unwrap(executor);
+            if (source != null)
+                return source;
+        }
+        Promise<T> result =  Promise.make(executor);
+        future.getFuture().whenComplete((value, error) -> result.tryComplete(error == null ? Try.success(value)
+                                                                                            : Try.failure(unwrap(error))));
+        if (!future.isDone()) {
+            result.future().onComplete(t -> {
+                if (t.isFailure() && t.getCause() instanceof CancellationException)
+                    future.cancel();
+            });
+        }
         return result.future();
     }
+
+    private static Throwable unwrap(Throwable error){
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+    /**
+     * Convert a java.util.stream.Stream (or ReactiveSeq) to a lazy vavr Stream. Elements are pulled from the source one at
+     * a time as the vavr Stream is evaluated, so no element is read before it is needed (use
+     * {@link #fromStream(Stream, int)} to opt in to reading ahead in chunks).
+     *
+     * @param s Stream to convert
+     * @return Lazy vavr Stream
+     */
     public static <T> io.vavr.collection.Stream<T> fromStream(Stream<T> s) {
-        return io.vavr.collection.Stream.ofAll(() -> s.iterator());
+        return fromStream(s, 1);
+    }
+
+    /**
+     * Convert a java.util.stream.Stream (or ReactiveSeq) to a lazy vavr Stream, pulling elements from the source in chunks.
+     * A chunk is read from the source as soon as its first element is needed, so up to chunkSize - 1 elements may be
+     * consumed from the source ahead of evaluation.
+     *
+     * @param s Stream to convert
+     * @param chunkSize Number of elements to pull from the source at a time
+     * @return Lazy vavr Stream
+     */
+    public static <T> io.vavr.collection.Stream<T> fromStream(Stream<T> s, int chunkSize) {
+        return io.vavr.collection.Stream.ofAll(traversable(s, chunkSize));
+    }
+
+    /**
+     * View a java.util.stream.Stream (or ReactiveSeq) as a single pass vavr Traversable (a vavr Iterator). Unlike a vavr
+     * Stream, no cons cell is built per element, so this is the cheapest way to fold over or map a large Stream with the
+     * vavr API. Elements are pulled from the source one at a time (use {@link #traversable(Stream, int)} to opt in to
+     * reading ahead in chunks).
+     *
+     * @param s Stream to view
+     * @return Single pass vavr Iterator over the Stream
+     */
+    public static <T> io.vavr.collection.Iterator<T> traversable(Stream<T> s) {
+        return traversable(s, 1);
+    }
+
+    /**
+     * View a java.util.stream.Stream (or ReactiveSeq) as a single pass vavr Traversable (a vavr Iterator), pulling
+     * elements from the source in chunks
+     *
+     * @param s Stream to view
+     * @param chunkSize Number of elements to pull from the source at a time
+     * @return Single pass vavr Iterator over the Stream
+     */
+    public static <T> io.vavr.collection.Iterator<T> traversable(Stream<T> s, int chunkSize) {
+        return new ChunkedIterator<>(s.spliterator(), chunkSize);
     }
   public static <T,X extends Throwable> Try<T> toTry(cyclops.control.Try<T,X> value) {
     return value
@@ -40,9 +124,53 @@ public class FromCyclops {
     }
 
     public static <T> Future<T> future(MonadicValue<T> value) {
-        return Future.of(() -> value.orElse(null));
+        return future(Future.DEFAULT_EXECUTOR_SERVICE, value);
+    }
+
+    /**
+     * Convert a cyclops MonadicValue to a vavr Future by subscribing to it, so no thread waits for the value. Errors fail the
+     * Future, and an empty value completes it with null. Lazy values (e.g. Eval.later, Maybe.fromEval) are subscribed to on
+     * the supplied ExecutorService, so they are not evaluated on the calling thread during conversion.
+     *
+     * @param executor ExecutorService vavr callbacks on the returned Future run on
+     * @param value to convert
+     * @return vavr Future
+     */
+    public static <T> Future<T> future(ExecutorService executor, MonadicValue<T> value) {
+        if (value instanceof cyclops.control.Future) {
+            return future(executor, (cyclops.control.Future<T>) value);
+        }
+        Promise<T> result = Promise.make(executor);
+        Subscriber<T> subscriber = new Subscriber<T>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(T t) {
+                result.trySuccess(t);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                result.tryFailure(t);
+            }
+
+            @Override
+            public void onComplete() {
+                result.trySuccess(null);
+            }
+        };
+        if (value instanceof cyclops.control.Option && !(value instanceof cyclops.control.Maybe))
+            value.subscribe(subscriber);
+        else
+            executor.execute(() -> value.subscribe(subscriber));
+        return result.future();
     }
     public static <T> Lazy<T> lazy(Value<T> value){
+        if (value instanceof LazyEval)
+            return ((LazyEval<T>) value).unwrap();
         return Lazy.of(()->value.orElse(null));
     }
 
@@ -0,0 +1,65 @@
+package cyclops.conversion.vavr;
+
+import com.oath.cyclops.types.MonadicValue;
+import cyclops.control.Eval;
+import io.vavr.Lazy;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * An Eval view of a vavr Lazy. The Lazy already memoises its value, so the view delegates to it rather than adding a
+ * second memoisation layer (as Eval.later would), and converting the view back with {@link FromCyclops} returns the
+ * original Lazy. Mapped views are Lazy views too, so derived values are also computed at most once.
+ */
+final class LazyEval<T> implements Eval<T> {
+
+    private final Lazy<T> lazy;
+
+    LazyEval(Lazy<T> lazy) {
+        this.lazy = lazy;
+    }
+
+    Lazy<T> unwrap() {
+        return lazy;
+    }
+
+    @Override
+    public T get() {
+        return lazy.get();
+    }
+
+    @Override
+    public <R> Eval<R> unit(R unit) {
+        return Eval.now(unit);
+    }
+
+    @Override
+    public <R> Eval<R> map(Function<? super T, ? extends R> mapper) {
+        return new LazyEval<>(lazy.map(mapper));
+    }
+
+    @Override
+    public <R> Eval<R> flatMap(Function<? super T, ? extends MonadicValue<? extends R>> mapper) {
+        return Eval.later(lazy::get).flatMap(mapper);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(get());
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this)
+            return true;
+        if (!(obj instanceof Eval))
+            return false;
+        return Objects.equals(get(), ((Eval<?>) obj).get());
+    }
+
+    @Override
+    public String toString() {
+        return lazy.toString();
+    }
+}
@@ -0,0 +1,65 @@
+package cyclops.conversion.vavr;
+
+import io.vavr.collection.Stream;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A SIZED / SUBSIZED Spliterator over a finite vavr Stream. Splitting hands the first half of the remaining cells to
+ * the prefix and skips this Spliterator past them with Stream#drop, which walks the (already evaluated) cells without
+ * copying them.
+ */
+final class StreamSpliterator<T> implements Spliterator<T> {
+
+    private Stream<T> current;
+    private long remaining;
+
+    StreamSpliterator(Stream<T> stream, long size) {
+        this.current = stream;
+        this.remaining = size;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (remaining <= 0)
+            return false;
+        T head = current.head();
+        current = current.tail();
+        remaining--;
+        action.accept(head);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        Stream<T> s = current;
+        for (long i = remaining; i > 0; i--) {
+            action.accept(s.head());
+            s = s.tail();
+        }
+        current = s;
+        remaining = 0;
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long half = remaining >>> 1;
+        if (half < 1)
+            return null;
+        Spliterator<T> prefix = new StreamSpliterator<>(current, half);
+        current = current.drop((int) half);
+        remaining -= half;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+}
@@ -2,10 +2,16 @@ package cyclops.conversion.vavr;
 
 import com.oath.cyclops.types.Zippable;
 import cyclops.control.*;
+import cyclops.reactive.ReactiveSeq;
 import io.vavr.Lazy;
 
 import io.vavr.control.Option;
 
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+
 
 public class ToCyclops {
 
@@ -18,12 +24,65 @@ public class ToCyclops {
         return array;
     }
     public static <T> Future<T> future(io.vavr.concurrent.Future<T> future){
-        Future<T> res = Future.future();
-        future.onSuccess(v->res.complete(v))
-                .onFailure(t->res.completeExceptionally(t));
+        return future(future, Runnable::run);
+    }
+
+    /**
+     * Convert a vavr Future to a cyclops Future without blocking, with a single completion callback (or none if the vavr
+     * Future has already completed). Failures and cancellation are propagated, and cancelling the cyclops Future cancels the
+     * vavr Future. Converting the result back with {@link FromCyclops#future(Future)} returns the original vavr Future.
+     *
+     * @param future vavr Future to convert
+     * @param executor Executor the cyclops Future is completed on once the vavr Future completes (Runnable::run completes it
+     *                 on the vavr callback thread)
+     * @return cyclops Future
+     */
+    public static <T> Future<T> future(io.vavr.concurrent.Future<T> future, Executor executor){
+        Option<io.vavr.control.Try<T>> done = future.getValue();
+        if (done.isDefined()) {
+            return complete(new VavrFuture<>(future), done.get());
+        }
+        Future<T> res = new VavrFuture<>(future);
+        future.onComplete(t -> executor.execute(() -> complete(res, t)));
+        res.getFuture().whenComplete((v, t) -> {
+            if (t instanceof CancellationException)
+                future.cancel();
+        });
         return res;
     }
 
+    private static <T> Future<T> complete(Future<T> res, io.vavr.control.Try<T> t){
+        if (t.isSuccess())
+            res.complete(t.get());
+        else
+            res.completeExceptionally(t.getCause());
+        return res;
+    }
+
+    /**
+     * Convert a vavr Stream to a lazy ReactiveSeq. The vavr Stream may be infinite, it is evaluated only as the ReactiveSeq
+     * is consumed.
+     *
+     * @param stream vavr Stream to convert
+     * @return ReactiveSeq over the vavr Stream
+     */
+    public static <T> ReactiveSeq<T> reactiveSeq(io.vavr.collection.Stream<T> stream){
+        return ReactiveSeq.fromSpliterator(Spliterators.spliteratorUnknownSize(stream.iterator(),
+                                                                               Spliterator.ORDERED | Spliterator.IMMUTABLE));
+    }
+
+    /**
+     * Convert a finite vavr Stream to a ReactiveSeq with a sized, splittable Spliterator, so that parallel and
+     * size-aware operations can split the Stream without copying it. The whole vavr Stream is evaluated up front to
+     * determine its size.
+     *
+     * @param stream Finite vavr Stream to convert
+     * @return Sized ReactiveSeq over the vavr Stream
+     */
+    public static <T> ReactiveSeq<T> finiteReactiveSeq(io.vavr.collection.Stream<T> stream){
+        return ReactiveSeq.fromSpliterator(new StreamSpliterator<>(stream, stream.length()));
+    }
+
     public static <L,R> cyclops.control.Either<L,R> either(io.vavr.control.Either<L,R> either){
         return either.fold(cyclops.control.Either::left, cyclops.control.Either::right);
     }
@@ -41,8 +100,15 @@ public class ToCyclops {
   public static <T> cyclops.control.Option<T> option(Option<T> opt){
     return opt.isDefined() ? cyclops.control.Option.some(opt.get()) : cyclops.control.Option.none();
   }
+    /**
+     * View a vavr Lazy as an Eval, without memoising its value a second time. Converting the view back with
+     * {@link FromCyclops#eval(Eval)} or {@link FromCyclops#lazy(com.oath.cyclops.types.Value)} returns the original Lazy.
+     *
+     * @param opt Lazy to view
+     * @return Eval view of the Lazy
+     */
     public static <T> Eval<T> eval(Lazy<T> opt){
-        return Eval.later(opt);
+        return new LazyEval<>(opt);
     }
     public static <R> cyclops.control.LazyEither<Throwable,R> lazyEither(io.vavr.concurrent.Future<R> either){
         return cyclops.control.LazyEither.fromFuture(future(either));
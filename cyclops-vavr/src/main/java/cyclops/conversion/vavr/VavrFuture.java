@@ -0,0 +1,52 @@
+package cyclops.conversion.vavr;
+
+import cyclops.control.Future;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A cyclops Future completed from a vavr Future, which keeps a reference to its source so that converting it back with
+ * {@link FromCyclops} returns the original vavr Future rather than bridging a second time.
+ */
+final class VavrFuture<T> extends Future<T> {
+
+    private final io.vavr.concurrent.Future<T> source;
+
+    VavrFuture(io.vavr.concurrent.Future<T> source) {
+        super(new CompletableFuture<>());
+        this.source = source;
+    }
+
+    /**
+     * The source can only stand in for this Future while they agree : this Future is a completable cyclops Future, so a
+     * caller may have completed it directly, with a result the source never had.
+     *
+     * @param executor ExecutorService the converted vavr Future should use
+     * @return The source vavr Future, if it uses the supplied ExecutorService and this Future is still pending or completed
+     * with the source's result, otherwise null
+     */
+    io.vavr.concurrent.Future<T> unwrap(ExecutorService executor) {
+        if (source.executorService() != executor) {
+            return null;
+        }
+        if (!isDone()) {
+            return source;
+        }
+        Option<Try<T>> done = source.getValue();
+        if (done.isEmpty()) {
+            return null;
+        }
+        CompletableFuture<T> future = getFuture();
+        Try<T> result = done.get();
+        if (result.isSuccess()) {
+            return !future.isCompletedExceptionally() && future.getNow(null) == result.get() ? source : null;
+        }
+        Throwable error = future.handle((v, t) -> t).getNow(null);
+        boolean cancelled = error instanceof CancellationException && result.getCause() instanceof CancellationException;
+        return error == result.getCause() || cancelled ? source : null;
+    }
+}
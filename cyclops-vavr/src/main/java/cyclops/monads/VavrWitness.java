@@ -4,6 +4,7 @@ package cyclops.monads;
 
 import com.oath.cyclops.anym.extensability.MonadAdapter;
 import com.oath.cyclops.vavr.adapter.*;
+import cyclops.collections.vavr.VavrArrayX;
 
 
 import io.vavr.collection.*;
@@ -20,6 +21,9 @@ public interface VavrWitness {
     public static <T> Vector<T> vector(AnyM<vector,? extends T> anyM){
         return anyM.unwrap();
     }
+    public static <T> Array<T> array(AnyM<array,? extends T> anyM){
+        return anyM.unwrap();
+    }
     public static <T> Queue<T> queue(AnyM<queue,? extends T> anyM){
         return anyM.unwrap();
     }
@@ -123,6 +127,8 @@ public interface VavrWitness {
 
                 @Override
                 public Traversable traversableFromIterable(Iterable value) {
+                    if (value instanceof VavrArrayX)
+                        return ((VavrArrayX<?>) value).<Array<?>>unwrap();
                     return Array.ofAll(value);
                 }
 
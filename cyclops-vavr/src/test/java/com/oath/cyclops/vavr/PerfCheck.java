@@ -1,15 +1,28 @@
 package com.oath.cyclops.vavr;
 
+import cyclops.collections.vavr.VavrHashSetX;
+import cyclops.collections.vavr.VavrListX;
+import cyclops.collections.vavr.VavrTreeSetX;
+import cyclops.collections.vavr.VavrVectorX;
+import cyclops.VavrConverters;
+import cyclops.conversion.vavr.FromCyclops;
+import cyclops.conversion.vavr.ToCyclops;
 import cyclops.data.Seq;
+import cyclops.function.Reducer;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.collections.immutable.VectorX;
 import org.junit.Ignore;
 import org.junit.Test;
 
 import com.oath.cyclops.types.persistent.PersistentList;
+import com.oath.cyclops.types.persistent.PersistentSortedSet;
 
 
 import io.vavr.collection.Array;
 import io.vavr.collection.List;
 
+import java.lang.management.ManagementFactory;
+
 @Ignore
 public class PerfCheck {
 
@@ -76,4 +89,114 @@ public class PerfCheck {
 
     }
 
+    @Test
+    public void vectorXFromStream() {
+        Reducer<PersistentList<Integer>, Integer> singletons = Reducer.of(VavrVectorX.emptyPersistentList(),
+                                                                          a -> b -> a.plusAll(b), x -> VavrVectorX.singleton(x));
+        reduce("VavrVectorX singleton reducer", singletons, 20_000);
+        reduce("VavrVectorX bulk reducer", VavrVectorX.toPersistentList(), 20_000);
+        measure("VavrVectorX fromStream", () -> VavrVectorX.fromStream(ReactiveSeq.range(0, 1_000_000)).size());
+    }
+
+    @Test
+    public void listXFromStream() {
+        Reducer<PersistentList<Integer>, Integer> singletons = Reducer.of(VavrListX.emptyPersistentList(),
+                                                                          a -> b -> a.plusAll(b), x -> VavrListX.singleton(x));
+        reduce("VavrListX singleton reducer", singletons, 20_000);
+        reduce("VavrListX bulk reducer", VavrListX.toPersistentList(), 20_000);
+        measure("VavrListX fromStream", () -> VavrListX.fromStream(ReactiveSeq.range(0, 1_000_000)).size());
+    }
+
+    @Test
+    public void listXFromIterator() {
+        java.util.List<Integer> elements = ReactiveSeq.range(0, 1_000_000).toList();
+        VectorX<Integer> vector = VavrVectorX.fromStream(elements.stream());
+        vector.size();
+        measure("VavrListX copyFromCollection", () -> VavrListX.copyFromCollection(vector).size());
+        measure("LazyLinkedListX materialization", () -> VavrListX.fromStream(elements.stream()).size());
+    }
+
+    @Test
+    public void treeSetXFromStream() {
+        java.util.List<Integer> shuffled = ReactiveSeq.range(0, 200_000).toList();
+        java.util.Collections.shuffle(shuffled, new java.util.Random(42));
+        Reducer<PersistentSortedSet<Integer>, Integer> singletons = Reducer.of(VavrTreeSetX.emptyPersistentSortedSet(),
+                                                                               a -> b -> a.plusAll(b), x -> VavrTreeSetX.singleton(x));
+        measure("VavrTreeSetX singleton reducer", () -> singletons.mapReduce(shuffled.stream()).size());
+        measure("VavrTreeSetX bulk reducer", () -> VavrTreeSetX.<Integer>toPersistentSortedSet().mapReduce(shuffled.stream()).size());
+        measure("VavrHashSetX bulk reducer", () -> VavrHashSetX.<Integer>toPersistentSet().mapReduce(shuffled.stream()).size());
+    }
+
+    @Test
+    public void conversions() {
+        int count = 1_000_000;
+        io.vavr.Lazy<Integer> lazy = io.vavr.Lazy.of(() -> 1);
+        lazy.get();
+        measure("Lazy to Eval.later", () -> {
+            int total = 0;
+            for (int i = 0; i < count; i++)
+                total += cyclops.control.Eval.later(lazy).get();
+            return total;
+        });
+        measure("Lazy to Eval view", () -> {
+            int total = 0;
+            for (int i = 0; i < count; i++)
+                total += ToCyclops.eval(lazy).get();
+            return total;
+        });
+        measure("Lazy round trip", () -> {
+            int total = 0;
+            for (int i = 0; i < count; i++)
+                total += FromCyclops.eval(ToCyclops.eval(lazy)).get();
+            return total;
+        });
+        io.vavr.control.Option<Integer> option = io.vavr.control.Option.some(1);
+        measure("Option via map / getOrElse", () -> {
+            int total = 0;
+            for (int i = 0; i < count; i++)
+                total += option.map(cyclops.control.Option::some).getOrElse(cyclops.control.Option.none()).orElse(0);
+            return total;
+        });
+        measure("Option direct", () -> {
+            int total = 0;
+            for (int i = 0; i < count; i++)
+                total += VavrConverters.toCyclopsOption(option).orElse(0);
+            return total;
+        });
+        io.vavr.concurrent.Future<Integer> future = io.vavr.concurrent.Future.successful(1);
+        measure("Future round trip", () -> {
+            int total = 0;
+            for (int i = 0; i < count / 10; i++)
+                total += FromCyclops.future(ToCyclops.future(future)).get();
+            return total;
+        });
+    }
+
+    @Test
+    public void streamConversions() {
+        measure("vavr Stream.ofAll(iterator)", () -> io.vavr.collection.Stream.ofAll(() -> ReactiveSeq.range(0, 1_000_000).iterator()).length());
+        measure("FromCyclops.fromStream", () -> FromCyclops.fromStream(ReactiveSeq.range(0, 1_000_000)).length());
+        measure("FromCyclops.traversable", () -> FromCyclops.traversable(ReactiveSeq.range(0, 1_000_000)).length());
+        measure("FromCyclops.fromStream chunked", () -> FromCyclops.fromStream(ReactiveSeq.range(0, 1_000_000), 128).length());
+        measure("FromCyclops.traversable chunked", () -> FromCyclops.traversable(ReactiveSeq.range(0, 1_000_000), 128).length());
+        io.vavr.collection.Stream<Integer> stream = io.vavr.collection.Stream.range(0, 1_000_000);
+        stream.length();
+        measure("ReactiveSeq.fromIterable(vavr Stream)", () -> ReactiveSeq.fromIterable(stream).toList().size());
+        measure("ToCyclops.finiteReactiveSeq", () -> ToCyclops.finiteReactiveSeq(stream).toList().size());
+    }
+
+    private void reduce(String name, Reducer<PersistentList<Integer>, Integer> reducer, int count) {
+        measure(name, () -> reducer.mapReduce(ReactiveSeq.range(0, count)).size());
+    }
+
+    private void measure(String name, java.util.function.IntSupplier task) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().getId();
+        long allocated = threads.getThreadAllocatedBytes(id);
+        long start = System.currentTimeMillis();
+        int size = task.getAsInt();
+        System.out.println(name + " took " + (System.currentTimeMillis() - start) + "ms, allocated "
+                + (threads.getThreadAllocatedBytes(id) - allocated) / 1024 + "KB for " + size + " elements");
+    }
+
 }
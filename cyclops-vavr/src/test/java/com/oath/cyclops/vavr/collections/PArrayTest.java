@@ -0,0 +1,78 @@
+package com.oath.cyclops.vavr.collections;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import com.oath.cyclops.types.persistent.PersistentList;
+import cyclops.VavrConverters;
+import cyclops.VavrTypes;
+import cyclops.collections.vavr.VavrArrayX;
+import cyclops.control.Option;
+import cyclops.data.Vector;
+import io.vavr.collection.Array;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PArrayTest {
+
+    Vector<Integer> org = null;
+    PersistentList<Integer> test=null;
+
+    @Before
+    public void setup(){
+
+       org = Vector.empty();
+       test = VavrArrayX.emptyPersistentList();
+
+    }
+
+    @Test
+    public void empty(){
+        assertThat(Vector.empty(),equalTo( VavrArrayX.empty()));
+    }
+    @Test
+    public void singleton(){
+        assertThat(Vector.of(1),equalTo( VavrArrayX.singleton(1)));
+    }
+    @Test
+    public void reducer(){
+        assertThat(org.plusAll(Arrays.asList(1,2,3)),equalTo(VavrTypes.<Integer>array().mapReduce(Stream.of(1,2,3))));
+        assertThat(org,equalTo(VavrArrayX.<Integer>toPersistentList().mapReduce(Stream.empty())));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)),equalTo(VavrArrayX.fromStream(Stream.of(1,2,3))));
+    }
+
+    @Test
+    public void get(){
+        PersistentList<Integer> list = test.plusAll(Arrays.asList(1,2,3));
+        assertThat(list.get(1),equalTo(Option.some(2)));
+        assertThat(list.get(3),equalTo(Option.none()));
+        assertThat(list.get(-1),equalTo(Option.none()));
+        assertThat(list.getOrElse(2,-1),equalTo(3));
+        assertThat(list.getOrElse(3,-1),equalTo(-1));
+        assertThat(list.getOrElseGet(-1,()->-1),equalTo(-1));
+    }
+
+    @Test
+    public void plusMinus(){
+        assertThat(org.plus(1),equalTo(test.plus(1)));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)),equalTo(test.plusAll(Arrays.asList(1,2,3))));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)).removeValue(1),equalTo(test.plusAll(Arrays.asList(1,2,3)).removeValue(1)));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)).removeAt(1),equalTo(test.plusAll(Arrays.asList(1,2,3)).removeAt(1)));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)).updateAt(1,5),equalTo(test.plusAll(Arrays.asList(1,2,3)).updateAt(1,5)));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)).removeAll(Arrays.asList(2,3)),
+                   equalTo(test.plusAll(Arrays.asList(1,2,3)).removeAll(Arrays.asList(2,3))));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(1,Arrays.asList(5,6,7)),
+                   equalTo(test.plusAll(Arrays.asList(1,2,3)).insertAt(1,Arrays.asList(5,6,7))));
+    }
+
+    @Test
+    public void converters(){
+        Array<Integer> array = Array.of(1,2,3);
+        assertThat(VavrConverters.Array(VavrArrayX.ofAll(array)),sameInstance(array));
+        assertThat(VavrConverters.Array(VavrArrayX.of(1,2,3)),equalTo(array));
+    }
+}
@@ -0,0 +1,79 @@
+package com.oath.cyclops.vavr.collections;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import com.oath.cyclops.types.persistent.PersistentSet;
+import cyclops.VavrConverters;
+import cyclops.VavrTypes;
+import cyclops.collections.vavr.VavrBitSetX;
+import cyclops.collections.vavr.VavrHashSetX;
+import cyclops.collections.vavr.VavrTreeSetX;
+import cyclops.data.HashSet;
+import cyclops.reactive.ReactiveSeq;
+import io.vavr.collection.BitSet;
+import org.junit.Test;
+
+public class PBitSetTest {
+
+    @Test
+    public void ints(){
+        VavrBitSetX set = VavrBitSetX.emptyPersistentSet().plusInt(3).plusInt(64).plusInt(3);
+        assertThat(set.size(),equalTo(2));
+        assertThat(set.containsInt(64),equalTo(true));
+        assertThat(set.containsInt(4),equalTo(false));
+        assertThat(set.containsInt(-1),equalTo(false));
+        assertThat(set.removeInt(64).containsInt(64),equalTo(false));
+        assertThat(set.removeInt(-1),sameInstance(set));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negative(){
+        VavrBitSetX.emptyPersistentSet().plusInt(-1);
+    }
+
+    @Test
+    public void reducer(){
+        PersistentSet<Integer> set = VavrTypes.bitSet().mapReduce(Stream.of(5,1,5,200));
+        assertThat(ReactiveSeq.fromIterable(set).toList(),equalTo(Arrays.asList(1,5,200)));
+        assertThat(VavrBitSetX.toPersistentSet().mapReduce(Stream.empty()).size(),equalTo(0));
+        assertThat(VavrBitSetX.fromStream(Stream.of(2,1,2)).size(),equalTo(2));
+        assertThat(VavrBitSetX.range(0,100).size(),equalTo(100));
+    }
+
+    @Test
+    public void unionIntersect(){
+        VavrBitSetX small = VavrBitSetX.emptyPersistentSet().plusInt(1).plusInt(500);
+        BitSet<Integer> big = BitSet.range(0,100);
+
+        assertThat(small.union(VavrBitSetX.ofAll(big)).size(),equalTo(101));
+        assertThat(small.intersect(VavrBitSetX.ofAll(big)).unwrap(),equalTo((Object)BitSet.of(1)));
+        assertThat(small.union(Arrays.asList(2,3)).size(),equalTo(4));
+        assertThat(small.intersect(Arrays.asList(500,3)).unwrap(),equalTo((Object)BitSet.of(500)));
+        assertThat(small.removeAll(VavrBitSetX.ofAll(big)).unwrap(),equalTo((Object)BitSet.of(500)));
+    }
+
+    @Test
+    public void equality(){
+        PersistentSet<Integer> bits = VavrBitSetX.emptyPersistentSet().plusInt(1).plusInt(2);
+        PersistentSet<Integer> hashSet = VavrHashSetX.<Integer>emptyPersistentSet().plus(2).plus(1);
+        PersistentSet<Integer> treeSet = VavrTreeSetX.<Integer>emptyPersistentSortedSet().plus(1).plus(2);
+        assertThat(bits,equalTo(hashSet));
+        assertThat(hashSet,equalTo(bits));
+        assertThat(bits,equalTo(treeSet));
+        assertThat(bits.hashCode(),equalTo(hashSet.hashCode()));
+        assertThat(bits.hashCode(),equalTo(treeSet.hashCode()));
+        assertThat(VavrBitSetX.emptyPersistentSet().plusInt(1).equals(VavrHashSetX.<Integer>emptyPersistentSet().plus(2)),equalTo(false));
+        assertThat(bits.equals(HashSet.of(1,2)),equalTo(false));
+    }
+
+    @Test
+    public void converters(){
+        BitSet<Integer> bits = BitSet.of(1,2,3);
+        assertThat(VavrConverters.BitSet(VavrBitSetX.ofAll(bits)),sameInstance(bits));
+    }
+}
@@ -0,0 +1,104 @@
+package com.oath.cyclops.vavr.collections;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import com.oath.cyclops.types.persistent.PersistentMap;
+import cyclops.VavrConverters;
+import cyclops.VavrTypes;
+import cyclops.collections.vavr.VavrHashMapX;
+import cyclops.collections.vavr.VavrHashSetX;
+import cyclops.collections.vavr.VavrListX;
+import cyclops.collections.vavr.VavrTreeMapX;
+import cyclops.collections.vavr.VavrVectorX;
+import cyclops.control.Option;
+import cyclops.data.HashMap;
+import cyclops.data.tuple.Tuple;
+import cyclops.reactive.ReactiveSeq;
+import org.junit.Test;
+
+public class PMapTest {
+
+    @Test
+    public void bulkOperationsWithMaps(){
+        PersistentMap<Integer,String> hash = VavrHashMapX.<Integer,String>empty().put(1,"a");
+        PersistentMap<Integer,String> tree = VavrTreeMapX.<Integer,String>empty().put(1,"a");
+
+        cyclops.data.tuple.Tuple2<Integer,String> appended = VavrVectorX.<cyclops.data.tuple.Tuple2<Integer,String>>emptyPersistentList()
+                                                                        .plusAll(hash).getOrElse(0,null);
+        assertThat(appended._1(),equalTo(1));
+        assertThat(VavrListX.<cyclops.data.tuple.Tuple2<Integer,String>>emptyPersistentList()
+                            .plus(Tuple.tuple(2,"b")).insertAt(0,tree).getOrElse(0,null)._2(),equalTo("a"));
+        assertThat(VavrHashSetX.<cyclops.data.tuple.Tuple2<Integer,String>>emptyPersistentSet()
+                               .plusAll(tree).removeAll(hash).size(),equalTo(0));
+    }
+
+    @Test
+    public void putGetRemove(){
+        PersistentMap<Integer,String> map = VavrHashMapX.<Integer,String>empty().put(1,"a").put(2,"b");
+        assertThat(map.get(1),equalTo(Option.some("a")));
+        assertThat(map.get(3),equalTo(Option.none()));
+        assertThat(map.getOrElse(3,"c"),equalTo("c"));
+        assertThat(map.remove(1).containsKey(1),equalTo(false));
+        assertThat(map.removeAllKeys(Arrays.asList(1,2)).size(),equalTo(0));
+        assertThat(map.equals(HashMap.<Integer,String>empty().put(1,"a").put(2,"b")),equalTo(false));
+    }
+
+    @Test
+    public void equalsAndHashCode(){
+        PersistentMap<Integer,String> hash = VavrHashMapX.<Integer,String>empty().put(1,"a").put(2,"b");
+        PersistentMap<Integer,String> tree = VavrTreeMapX.<Integer,String>empty().put(2,"b").put(1,"a");
+        assertThat(hash,equalTo(tree));
+        assertThat(tree,equalTo(hash));
+        assertThat(hash.hashCode(),equalTo(tree.hashCode()));
+        assertThat(hash.equals(tree.put(3,"c")),equalTo(false));
+        assertThat(tree.equals(HashMap.of(1,"a",2,"b")),equalTo(false));
+    }
+
+    @Test
+    public void reducers(){
+        PersistentMap<Integer,String> hash = VavrTypes.<Integer,String>hashMap()
+                                                      .mapReduce(Stream.of(Tuple.tuple(1,"a"),Tuple.tuple(2,"b"),Tuple.tuple(1,"c")));
+        assertThat(hash.size(),equalTo(2));
+        assertThat(hash.get(1),equalTo(Option.some("c")));
+
+        PersistentMap<Integer,String> tree = VavrTypes.<Integer,String>treeMap(Comparator.reverseOrder())
+                                                      .mapReduce(Stream.of(Tuple.tuple(1,"a"),Tuple.tuple(3,"b"),Tuple.tuple(1,"c"),Tuple.tuple(2,"d")));
+        assertThat(ReactiveSeq.fromIterable(tree).map(t->t._1()).toList(),equalTo(Arrays.asList(3,2,1)));
+        assertThat(tree.get(1),equalTo(Option.some("c")));
+        assertThat(VavrTypes.<Integer,String>treeMap().mapReduce(Stream.empty()).size(),equalTo(0));
+    }
+
+    @Test
+    public void merge(){
+        VavrHashMapX<Integer,Integer> small = VavrHashMapX.<Integer,Integer>empty().put(1,1).put(100,100);
+        VavrHashMapX<Integer,Integer> big = VavrHashMapX.fromStream(ReactiveSeq.range(0,50).map(i->Tuple.tuple(i,i)));
+
+        assertThat(small.merge(big,(a,b)->a-b).get(1),equalTo(Option.some(0)));
+        assertThat(big.merge(small,(a,b)->a+b).get(1),equalTo(Option.some(2)));
+        assertThat(small.merge(big,(a,b)->a).size(),equalTo(51));
+        assertThat(small.putAll(big).get(100),equalTo(Option.some(100)));
+        assertThat(small.merge(HashMap.of(1,5),(a,b)->a*10+b).get(1),equalTo(Option.some(15)));
+
+        VavrTreeMapX<Integer,Integer> tree = VavrTreeMapX.<Integer,Integer>empty().put(1,1);
+        VavrTreeMapX<Integer,Integer> bigTree = VavrTreeMapX.fromStream(ReactiveSeq.range(0,50).map(i->Tuple.tuple(i,i)));
+        assertThat(tree.merge(bigTree,(a,b)->a-b).get(1),equalTo(Option.some(0)));
+        assertThat(tree.putAll(bigTree).size(),equalTo(50));
+    }
+
+    @Test
+    public void converters(){
+        io.vavr.collection.HashMap<Integer,String> vavr = io.vavr.collection.HashMap.of(1,"a");
+        assertThat(VavrConverters.HashMap(VavrHashMapX.ofAll(vavr)),sameInstance(vavr));
+        assertThat(VavrConverters.HashMap(HashMap.of(1,"a")),equalTo(vavr));
+
+        io.vavr.collection.TreeMap<Integer,String> tree = io.vavr.collection.TreeMap.of(1,"a",2,"b");
+        assertThat(VavrConverters.TreeMap(VavrTreeMapX.ofAll(tree)),sameInstance(tree));
+        assertThat(VavrConverters.TreeMap(HashMap.of(2,"b",1,"a")),equalTo(tree));
+    }
+}
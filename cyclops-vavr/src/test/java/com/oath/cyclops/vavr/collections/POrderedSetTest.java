@@ -1,13 +1,21 @@
 package com.oath.cyclops.vavr.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
 
 import com.oath.cyclops.types.persistent.PersistentSortedSet;
 import cyclops.collections.vavr.VavrTreeSetX;
 import cyclops.data.TreeSet;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -31,7 +39,58 @@ public class POrderedSetTest {
     public void singleton(){
         assertThat(TreeSet.singleton(1),equalTo(VavrTreeSetX.singleton(1)));
     }
+    @Test
+    public void reducer(){
+        assertThat(org.plusAll(Arrays.asList(1,2,3)),equalTo(VavrTreeSetX.<Integer>toPersistentSortedSet().mapReduce(Stream.of(3,1,2,3,1))));
+        assertThat(org,equalTo(VavrTreeSetX.<Integer>toPersistentSortedSet().mapReduce(Stream.empty())));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)),equalTo(VavrTreeSetX.fromStream(Stream.of(2,3,1,2))));
+
+        PersistentSortedSet<Integer> reversed = VavrTreeSetX.toPersistentSortedSet(Comparator.<Integer>reverseOrder())
+                                                            .mapReduce(Stream.of(1,3,2,3));
+        assertThat(ReactiveSeq.fromIterable(reversed).toList(),equalTo(Arrays.asList(3,2,1)));
+
+        PersistentSortedSet<String> byLength = VavrTreeSetX.toPersistentSortedSet(Comparator.comparing(String::length))
+                                                           .mapReduce(Stream.of("a","bb","c","dd"));
+        assertThat(ReactiveSeq.fromIterable(byLength).toList(),equalTo(Arrays.asList("a","bb")));
+    }
+
+    @Test
+    public void spliterator(){
+        PersistentSortedSet<Integer> set = VavrTreeSetX.<Integer>toPersistentSortedSet(Comparator.reverseOrder())
+                                                       .mapReduce(ReactiveSeq.range(0,10_000));
+        Spliterator<Integer> split = set.spliterator();
+        assertThat(split.hasCharacteristics(Spliterator.SIZED | Spliterator.SORTED | Spliterator.DISTINCT),equalTo(true));
+        assertThat(split.getComparator(),equalTo((Object)Comparator.reverseOrder()));
+        Spliterator<Integer> prefix = split.trySplit();
+        assertThat(prefix.getExactSizeIfKnown(),equalTo(5_000L));
+        assertThat(prefix.getComparator(),equalTo((Object)Comparator.reverseOrder()));
+        assertThat(split.getExactSizeIfKnown(),equalTo(5_000L));
+        assertThat(StreamSupport.stream(set.spliterator(),true).collect(Collectors.toList()),
+                   equalTo(ReactiveSeq.range(0,10_000).map(i->9_999-i).toList()));
+    }
 
+    @Test
+    public void spliteratorNaturalOrder(){
+        Spliterator<Integer> split = VavrTreeSetX.<Integer>toPersistentSortedSet().mapReduce(ReactiveSeq.range(0,10_000))
+                                                 .spliterator();
+        assertThat(split.hasCharacteristics(Spliterator.SORTED),equalTo(true));
+        assertThat(split.getComparator(),nullValue());
+        assertThat(split.trySplit().getComparator(),nullValue());
+        assertThat(VavrTreeSetX.<Integer>toPersistentSortedSet(Comparator.naturalOrder()).mapReduce(ReactiveSeq.of(1,2))
+                               .spliterator().getComparator(),nullValue());
+    }
+
+    @Test
+    public void nativeBulk(){
+        io.vavr.collection.TreeSet<Integer> big = io.vavr.collection.TreeSet.range(0,100);
+        assertThat(VavrTreeSetX.<Integer>emptyPersistentSortedSet().plus(1).plusAll(VavrTreeSetX.ofAll(big)).unwrap(),sameInstance((Object)big));
+        assertThat(VavrTreeSetX.<Integer>emptyPersistentSortedSet().plus(-1).plusAll(VavrTreeSetX.ofAll(big)).size(),equalTo(101));
+        assertThat(org.plusAll(Arrays.asList(1,200)),
+                   equalTo(test.plusAll(Arrays.asList(1,150,200)).removeAll(VavrTreeSetX.ofAll(io.vavr.collection.TreeSet.range(100,190)))));
+
+        PersistentSortedSet<Integer> reversed = VavrTreeSetX.emptyPersistentSortedSet(Comparator.<Integer>reverseOrder()).plus(1);
+        assertThat(ReactiveSeq.fromIterable(reversed.plusAll(VavrTreeSetX.ofAll(big))).take(2).toList(),equalTo(Arrays.asList(99,98)));
+    }
     @Test
     public void plusMinus(){
         System.out.println(test.plusAll(Arrays.asList(1,2,3)));
@@ -1,13 +1,19 @@
 package com.oath.cyclops.vavr.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
 
 import com.oath.cyclops.types.persistent.PersistentSet;
 import cyclops.collections.vavr.VavrHashSetX;
+import cyclops.collections.vavr.VavrTreeSetX;
 import cyclops.data.HashSet;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -32,7 +38,53 @@ public class PSetTest {
     public void singleton(){
         assertThat(HashSet.singleton(1),equalTo(VavrHashSetX.singleton(1)));
     }
+    @Test
+    public void reducer(){
+        PersistentSet<Integer> set = VavrHashSetX.<Integer>toPersistentSet().mapReduce(Stream.of(1,2,2,3,1));
+        assertThat(set.size(),equalTo(3));
+        assertThat(set.containsValue(1) && set.containsValue(2) && set.containsValue(3),equalTo(true));
+        assertThat(VavrHashSetX.<Integer>toPersistentSet().mapReduce(Stream.empty()).size(),equalTo(0));
+        assertThat(VavrHashSetX.fromStream(Stream.of(1,2,2,3)).size(),equalTo(3));
+    }
+
+    @Test
+    public void equality(){
+        PersistentSet<Integer> hashSet = VavrHashSetX.<Integer>toPersistentSet().mapReduce(Stream.of(1,2,3));
+        PersistentSet<Integer> treeSet = VavrTreeSetX.<Integer>toPersistentSortedSet().mapReduce(Stream.of(3,2,1));
+        assertThat(hashSet,equalTo(treeSet));
+        assertThat(treeSet,equalTo(hashSet));
+        assertThat(hashSet.equals(treeSet.plus(4)),equalTo(false));
+        assertThat(hashSet.hashCode(),equalTo(VavrHashSetX.<Integer>emptyPersistentSet().plusAll(Arrays.asList(3,1,2)).hashCode()));
+        assertThat(hashSet.hashCode(),equalTo(treeSet.hashCode()));
+        assertThat(hashSet.equals(HashSet.of(1,2,3)),equalTo(false));
+        assertThat(treeSet.equals(HashSet.of(1,2,3)),equalTo(false));
+        assertThat(hashSet,equalTo(VavrHashSetX.<Integer>emptyPersistentSet().plusAll(Arrays.asList(3,1,2))));
+
+        assertThat(treeSet.equals(VavrHashSetX.<String>emptyPersistentSet().plusAll(Arrays.asList("a","b","c"))),equalTo(false));
+        assertThat(treeSet.equals(VavrHashSetX.<Integer>emptyPersistentSet().plusAll(Arrays.asList(1,2,null))),equalTo(false));
+    }
 
+    @Test
+    public void spliterator(){
+        PersistentSet<Integer> set = VavrHashSetX.<Integer>toPersistentSet().mapReduce(ReactiveSeq.range(0,10_000));
+        Spliterator<Integer> split = set.spliterator();
+        assertThat(split.tryAdvance(i->{}),equalTo(true));
+        assertThat(split.getExactSizeIfKnown(),equalTo(9_999L));
+        assertThat(split.trySplit().getExactSizeIfKnown() + split.getExactSizeIfKnown(),equalTo(9_999L));
+        assertThat(StreamSupport.stream(set.spliterator(),true).mapToInt(i->i).sum(),equalTo(ReactiveSeq.range(0,10_000).sumInt(i->i)));
+    }
+
+    @Test
+    public void nativeBulk(){
+        io.vavr.collection.HashSet<Integer> big = io.vavr.collection.HashSet.range(0,100);
+        assertThat(VavrHashSetX.<Integer>emptyPersistentSet().plus(1).plusAll(VavrHashSetX.ofAll(big)).unwrap(),sameInstance((Object)big));
+        PersistentSet<Integer> merged = VavrHashSetX.<Integer>emptyPersistentSet().plus(-1).plusAll(VavrHashSetX.ofAll(big));
+        assertThat(merged.size(),equalTo(101));
+        PersistentSet<Integer> removed = VavrHashSetX.<Integer>emptyPersistentSet().plusAll(big).removeAll(VavrHashSetX.ofAll(big.filter(i->i>9)));
+        assertThat(removed.size(),equalTo(10));
+        assertThat(removed.containsValue(9) && !removed.containsValue(10),equalTo(true));
+        assertThat(VavrHashSetX.<Integer>emptyPersistentSet().plus(1).plus(200).removeAll(VavrHashSetX.ofAll(big)).size(),equalTo(1));
+    }
     @Test @Ignore //dependent on https://github.com/aol/cyclops-react/issues/789
     public void plusMinus(){
         System.out.println(test.plusAll(Arrays.asList(1,2,3)));
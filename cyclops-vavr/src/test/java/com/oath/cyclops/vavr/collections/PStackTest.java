@@ -1,13 +1,16 @@
 package com.oath.cyclops.vavr.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.stream.Stream;
 
 import cyclops.collections.vavr.VavrListX;
 import cyclops.collections.vavr.VavrVectorX;
 import cyclops.data.Seq;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -33,7 +36,31 @@ public class PStackTest {
     public void singleton(){
         assertThat(Seq.of(1),equalTo(VavrVectorX.singleton(1)));
     }
+    @Test
+    public void reducer(){
+        assertThat(org.plusAll(Arrays.asList(1,2,3)),equalTo(VavrListX.<Integer>toPersistentList().mapReduce(Stream.of(1,2,3))));
+        assertThat(org,equalTo(VavrListX.<Integer>toPersistentList().mapReduce(Stream.empty())));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)),equalTo(VavrListX.fromStream(Stream.of(1,2,3))));
+    }
 
+    @Test
+    public void largeInputs(){
+        assertThat(VavrListX.fromStream(ReactiveSeq.range(0,1_000_000)).size(),equalTo(1_000_000));
+        assertThat(VavrListX.copyFromCollection(VavrListX.fromStream(ReactiveSeq.range(0,1_000_000))).getOrElse(999_999,-1),
+                   equalTo(999_999));
+        assertThat(VavrListX.copyFromCollection(VavrListX.of(1,2,3)),equalTo(org.plusAll(Arrays.asList(1,2,3))));
+    }
+
+    @Test
+    public void nativeBulk(){
+        io.vavr.collection.List<Integer> list = io.vavr.collection.List.of(1,2,3);
+        io.vavr.collection.List<Integer> appended = VavrListX.<Integer>emptyPersistentList().plus(0).plusAll(VavrListX.ofAll(list)).unwrap();
+        assertThat(appended.tail(),sameInstance(list));
+        assertThat(org.plusAll(Arrays.asList(1,5,2,3)).removeAll(Arrays.asList(2,3)),
+                   equalTo(test.plusAll(Arrays.asList(1,5,2,3)).removeAll(VavrListX.ofAll(list.tail()))));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)).insertAt(1,Arrays.asList(1,2,3)),
+                   equalTo(test.plusAll(Arrays.asList(1,2,3)).insertAt(1,VavrListX.ofAll(list))));
+    }
     @Test
     public void testWith(){
        System.out.println( VavrListX.of(1,2,3,4,5,6));
@@ -1,12 +1,20 @@
 package com.oath.cyclops.vavr.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
 
+import cyclops.collections.vavr.VavrArrayX;
+import cyclops.collections.vavr.VavrListX;
 import cyclops.collections.vavr.VavrVectorX;
 import cyclops.data.Vector;
+import cyclops.reactive.ReactiveSeq;
 import org.junit.Before;
 import org.junit.Test;
 import com.oath.cyclops.types.persistent.PersistentList;
@@ -32,7 +40,55 @@ public class PVectorTest {
     public void singleton(){
         assertThat(Vector.of(1),equalTo( VavrVectorX.singleton(1)));
     }
+    @Test
+    public void reducer(){
+        assertThat(org.plusAll(Arrays.asList(1,2,3)),equalTo(VavrVectorX.<Integer>toPersistentList().mapReduce(Stream.of(1,2,3))));
+        assertThat(org,equalTo(VavrVectorX.<Integer>toPersistentList().mapReduce(Stream.empty())));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)),equalTo(VavrVectorX.fromStream(Stream.of(1,2,3))));
+    }
+
+    @Test
+    public void equality(){
+        PersistentList<Integer> vector = VavrVectorX.<Integer>emptyPersistentList().plusAll(Arrays.asList(1,2,3));
+        PersistentList<Integer> list = VavrListX.<Integer>toPersistentList().mapReduce(Stream.of(1,2,3));
+        assertThat(vector,equalTo(list));
+        assertThat(list,equalTo(vector));
+        assertThat(vector.equals(list.plus(0)),equalTo(false));
+        PersistentList<Integer> array = VavrArrayX.<Integer>emptyPersistentList().plusAll(Arrays.asList(1,2,3));
+        Vector<Integer> cyclopsVector = Vector.of(1,2,3);
+        for (Object other : Arrays.asList(list, array, cyclopsVector)) {
+            assertThat(vector,equalTo(other));
+            assertThat(other,equalTo((Object)vector));
+            assertThat(vector.hashCode(),equalTo(other.hashCode()));
+        }
+        int cached = vector.hashCode();
+        assertThat(vector.hashCode(),equalTo(cached));
+        assertThat(cached,equalTo(Arrays.asList(1,2,3).hashCode()));
+        assertThat(vector.equals(vector.updateAt(2,4)),equalTo(false));
+        assertThat(vector,equalTo(VavrVectorX.<Integer>emptyPersistentList().plusAll(Arrays.asList(1,2,3))));
+    }
 
+    @Test
+    public void spliterator(){
+        PersistentList<Integer> vector = VavrVectorX.<Integer>toPersistentList().mapReduce(ReactiveSeq.range(0,10_000));
+        Spliterator<Integer> split = vector.spliterator();
+        assertThat(split.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED),equalTo(true));
+        assertThat(split.getExactSizeIfKnown(),equalTo(10_000L));
+        assertThat(split.trySplit().getExactSizeIfKnown(),equalTo(5_000L));
+        assertThat(StreamSupport.stream(vector.spliterator(),true).collect(Collectors.toList()),
+                   equalTo(ReactiveSeq.range(0,10_000).toList()));
+    }
+
+    @Test
+    public void nativeBulk(){
+        io.vavr.collection.Vector<Integer> vec = io.vavr.collection.Vector.of(1,2,3);
+        assertThat(VavrVectorX.<Integer>emptyPersistentList().plusAll(VavrVectorX.ofAll(vec)).unwrap(),sameInstance((Object)vec));
+        assertThat(org.plus(0).plusAll(Arrays.asList(1,2,3)),equalTo(test.plus(0).plusAll(VavrVectorX.ofAll(vec))));
+        assertThat(org.plusAll(Arrays.asList(1,5,2,3)).removeAll(Arrays.asList(2,3)),
+                   equalTo(test.plusAll(Arrays.asList(1,5,2,3)).removeAll(VavrVectorX.ofAll(vec.tail()))));
+        assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(1,Arrays.asList(1,2,3)),
+                   equalTo(test.plusAll(Arrays.asList(1,2,3)).insertAt(1,VavrVectorX.ofAll(vec))));
+    }
     @Test
     public void plusMinus(){
         System.out.println(test.plusAll(Arrays.asList(1,2,3)));
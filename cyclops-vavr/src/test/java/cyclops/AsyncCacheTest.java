@@ -0,0 +1,97 @@
+package cyclops;
+
+import cyclops.companion.vavr.AsyncCache;
+import cyclops.companion.vavr.Futures;
+import cyclops.reactive.ReactiveSeq;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+
+public class AsyncCacheTest {
+
+    @Test
+    public void sharesInFlightLoads(){
+        AsyncCache<String, Integer> cache = AsyncCache.of(10, Duration.ofMinutes(1));
+        Promise<Integer> promise = Promise.make();
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Future<Integer>> loader = k -> {
+            loads.incrementAndGet();
+            return promise.future();
+        };
+        Future<Integer> first = cache.get("a", loader);
+        Future<Integer> second = cache.get("a", loader);
+        assertThat(second,sameInstance(first));
+        promise.success(1);
+        assertThat(first.await().get(),equalTo(1));
+        assertThat(cache.get("a", loader).await().get(),equalTo(1));
+        assertThat(loads.get(),equalTo(1));
+    }
+    @Test
+    public void evictsFailures(){
+        AsyncCache<String, Integer> cache = AsyncCache.of(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Future<Integer>> loader = k -> loads.incrementAndGet() == 1 ? Future.failed(new IllegalStateException())
+                                                                                       : Future.successful(2);
+        assertThat(cache.get("a", loader).await().getCause().get(),instanceOf(IllegalStateException.class));
+        for (int i = 0; i < 100 && cache.size() > 0; i++)
+            sleep(10);
+        assertThat(cache.get("a", loader).await().get(),equalTo(2));
+        assertThat(loads.get(),equalTo(2));
+    }
+    @Test
+    public void nullLoaderResultFails(){
+        AsyncCache<String, Integer> cache = AsyncCache.of(10, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, Future<Integer>> loader = k -> loads.incrementAndGet() == 1 ? null : Future.successful(2);
+        assertThat(cache.get("a", loader).await().getCause().get(),instanceOf(NullPointerException.class));
+        assertThat(cache.size(),equalTo(0));
+        assertThat(cache.get("a", loader).await().get(),equalTo(2));
+        assertThat(loads.get(),equalTo(2));
+    }
+    @Test
+    public void evictsBySizeAndTtl(){
+        AsyncCache<Integer, Integer> cache = AsyncCache.of(2, Duration.ofMillis(50));
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, Future<Integer>> loader = k -> {
+            loads.incrementAndGet();
+            return Future.successful(k);
+        };
+        cache.get(1, loader).await();
+        cache.get(2, loader).await();
+        cache.get(3, loader).await();
+        assertThat(cache.size(),equalTo(2));
+        cache.get(1, loader).await();
+        assertThat(loads.get(),equalTo(4));
+
+        sleep(100);
+        cache.get(1, loader).await();
+        assertThat(loads.get(),equalTo(5));
+    }
+    @Test
+    public void memoize(){
+        AtomicInteger loads = new AtomicInteger();
+        Function<Integer, Future<Integer>> fn = Futures.memoize(i -> i % 2, i -> Future.of(() -> {
+            loads.incrementAndGet();
+            return i % 2;
+        }), 10, Duration.ofMinutes(1));
+        assertThat(Futures.sequence(ReactiveSeq.range(0, 100).map(fn)).await().get().toList().size(),equalTo(100));
+        assertThat(loads.get(),equalTo(2));
+    }
+    private static void sleep(long millis){
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
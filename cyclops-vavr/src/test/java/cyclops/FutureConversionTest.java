@@ -0,0 +1,123 @@
+package cyclops;
+
+import cyclops.control.Eval;
+import cyclops.control.Maybe;
+import cyclops.control.Option;
+import cyclops.conversion.vavr.FromCyclops;
+import cyclops.conversion.vavr.ToCyclops;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import org.junit.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+
+public class FutureConversionTest {
+
+    @Test
+    public void fromCyclopsSuccess(){
+        cyclops.control.Future<Integer> source = cyclops.control.Future.future();
+        Future<Integer> result = FromCyclops.future(source);
+        assertThat(result.isCompleted(),equalTo(false));
+        source.complete(10);
+        assertThat(result.await().get(),equalTo(10));
+    }
+    @Test
+    public void fromCyclopsFailure(){
+        cyclops.control.Future<Integer> source = cyclops.control.Future.future();
+        Future<Integer> result = FromCyclops.future(source);
+        source.completeExceptionally(new IllegalStateException("boom"));
+        assertThat(result.await().getCause().get(),instanceOf(IllegalStateException.class));
+    }
+    @Test
+    public void fromCyclopsCancel() throws InterruptedException {
+        cyclops.control.Future<Integer> source = cyclops.control.Future.future();
+        Future<Integer> result = FromCyclops.future(source);
+        result.cancel();
+        result.await();
+        for(int i=0;i<100 && !source.isCancelled();i++)
+            Thread.sleep(10);
+        assertThat(source.isCancelled(),equalTo(true));
+
+        cyclops.control.Future<Integer> cancelled = cyclops.control.Future.future();
+        cancelled.cancel();
+        assertThat(FromCyclops.future(cancelled).await().getCause().get(),instanceOf(CancellationException.class));
+    }
+    @Test
+    public void fromMonadicValueDoesNotBlock(){
+        java.util.concurrent.ExecutorService executor = Executors.newSingleThreadExecutor();
+        cyclops.control.Future<Integer> source = cyclops.control.Future.future();
+        Future<Integer> result = FromCyclops.future(executor,Maybe.fromFuture(source));
+        assertThat(result.isCompleted(),equalTo(false));
+        source.complete(5);
+        assertThat(result.await().get(),equalTo(5));
+
+        assertThat(FromCyclops.future(Maybe.just(1)).await().get(),equalTo(1));
+        assertThat(FromCyclops.future(Maybe.<Integer>nothing()).await().get(),equalTo(null));
+        executor.shutdown();
+    }
+    @Test
+    public void fromLazyValueDefersEvaluation(){
+        Thread caller = Thread.currentThread();
+        Thread[] evaluatedOn = new Thread[1];
+        Future<Integer> result = FromCyclops.future(Eval.later(() -> {
+            evaluatedOn[0] = Thread.currentThread();
+            return 1;
+        }));
+        assertThat(result.await().get(),equalTo(1));
+        assertThat(evaluatedOn[0] == caller,equalTo(false));
+        assertThat(FromCyclops.future(Maybe.fromEval(Eval.later(() -> Thread.currentThread()))).await().get() == caller,equalTo(false));
+        assertThat(FromCyclops.future(Option.some(1)).isCompleted(),equalTo(true));
+    }
+    @Test
+    public void toCyclops(){
+        Promise<Integer> promise = Promise.make();
+        cyclops.control.Future<Integer> result = ToCyclops.future(promise.future());
+        assertThat(result.isDone(),equalTo(false));
+        promise.failure(new IllegalStateException("boom"));
+        assertThat(result.getFuture().handle((v,t)->t).join(),instanceOf(IllegalStateException.class));
+
+        assertThat(ToCyclops.future(Future.successful(2)).isSuccess(),equalTo(true));
+        java.util.concurrent.ExecutorService executor = Executors.newSingleThreadExecutor();
+        assertThat(ToCyclops.future(Future.successful(2),executor).getFuture().join(),equalTo(2));
+        executor.shutdown();
+    }
+    @Test
+    public void toCyclopsCancel(){
+        Promise<Integer> promise = Promise.make();
+        ToCyclops.future(promise.future()).cancel();
+        assertThat(promise.future().await().getCause().get(),instanceOf(CancellationException.class));
+    }
+    @Test
+    public void roundTrip(){
+        Promise<Integer> promise = Promise.make();
+        Future<Integer> future = promise.future();
+        assertThat(FromCyclops.future(ToCyclops.future(future)) == future,equalTo(true));
+        assertThat(FromCyclops.future(Future.DEFAULT_EXECUTOR_SERVICE, ToCyclops.future(future)) == future,equalTo(true));
+        java.util.concurrent.ExecutorService executor = Executors.newSingleThreadExecutor();
+        assertThat(FromCyclops.future(executor, ToCyclops.future(future)) == future,equalTo(false));
+        Future<Integer> done = Future.successful(1);
+        assertThat(FromCyclops.future(ToCyclops.future(done)) == done,equalTo(true));
+        Future<Integer> other = Future.successful(executor, 1);
+        assertThat(FromCyclops.future(ToCyclops.future(other)) == other,equalTo(false));
+        executor.shutdown();
+    }
+    @Test
+    public void roundTripCompletedDirectly(){
+        Promise<Integer> promise = Promise.make();
+        cyclops.control.Future<Integer> view = ToCyclops.future(promise.future());
+        view.complete(5);
+        Future<Integer> converted = FromCyclops.future(view);
+        assertThat(converted == promise.future(),equalTo(false));
+        assertThat(converted.await().get(),equalTo(5));
+
+        cyclops.control.Future<Integer> failed = ToCyclops.future(Promise.<Integer>make().future());
+        failed.completeExceptionally(new IllegalStateException());
+        assertThat(FromCyclops.future(failed).await().getCause().get(),instanceOf(IllegalStateException.class));
+    }
+}
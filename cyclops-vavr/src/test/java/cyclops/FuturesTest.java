@@ -0,0 +1,310 @@
+package cyclops;
+
+import cyclops.companion.vavr.Futures;
+import cyclops.reactive.ReactiveSeq;
+import cyclops.reactive.collections.mutable.ListX;
+import io.vavr.concurrent.Future;
+import io.vavr.concurrent.Promise;
+import org.junit.Test;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+
+public class FuturesTest {
+
+    @Test
+    public void anyOf(){
+        Promise<Integer> slow = Promise.make();
+        Future<Integer> result = Futures.anyOf(true, Future.successful(1), slow.future());
+        assertThat(result.await().get(),equalTo(1));
+        assertThat(slow.future().await().getCause().get(),instanceOf(CancellationException.class));
+
+        Promise<Integer> other = Promise.make();
+        assertThat(Futures.anyOf(Future.successful(2), other.future()).await().get(),equalTo(2));
+        assertThat(other.isCompleted(),equalTo(false));
+    }
+    @Test
+    public void allOf(){
+        Promise<Integer> p1 = Promise.make();
+        Promise<Integer> p2 = Promise.make();
+        Future<Integer> result = Futures.allOf(p1.future(), p2.future());
+        p1.success(1);
+        assertThat(result.isCompleted(),equalTo(false));
+        p2.success(2);
+        assertThat(result.await().isSuccess(),equalTo(true));
+
+        assertThat(Futures.allOf(Future.successful(1),Future.failed(new IllegalStateException()))
+                          .await().getCause().get(),instanceOf(IllegalStateException.class));
+        assertThat(Futures.<Integer>allOf().await().isSuccess(),equalTo(true));
+    }
+    @Test
+    public void allOfFailFast(){
+        Promise<Integer> slow = Promise.make();
+        Future<Integer> result = Futures.allOf(true, slow.future(), Future.failed(new IllegalStateException()));
+        assertThat(result.await().getCause().get(),instanceOf(IllegalStateException.class));
+        assertThat(slow.future().await().getCause().get(),instanceOf(CancellationException.class));
+    }
+    @Test
+    public void firstSuccess(){
+        Promise<Integer> slow = Promise.make();
+        Future<Integer> result = Futures.firstSuccess(true, Future.failed(new IllegalStateException()),
+                                                      Future.successful(1), slow.future());
+        assertThat(result.await().get(),equalTo(1));
+        assertThat(slow.future().await().getCause().get(),instanceOf(CancellationException.class));
+
+        assertThat(Futures.firstSuccess(Future.failed(new IllegalStateException()),Future.<Integer>failed(new IllegalArgumentException()))
+                          .await().isFailure(),equalTo(true));
+    }
+    @Test
+    public void quorum(){
+        Promise<Integer> slow = Promise.make();
+        Promise<Integer> second = Promise.make();
+        AtomicInteger errors = new AtomicInteger();
+        Future<ListX<Integer>> result = Futures.quorum(status -> status.getCompleted() > 1, t -> errors.incrementAndGet(), true,
+                                                       Future.successful(1), Future.failed(new IllegalStateException()),
+                                                       second.future(), slow.future());
+        for (int i = 0; i < 100 && errors.get() == 0; i++)
+            sleep(10);
+        second.success(2);
+        assertThat(result.await().get().size(),equalTo(2));
+        assertThat(errors.get(),equalTo(1));
+        assertThat(slow.future().await().getCause().get(),instanceOf(CancellationException.class));
+
+        assertThat(Futures.quorum(status -> false, Future.successful(1), Future.successful(2))
+                          .await().get().size(),equalTo(2));
+        assertThat(Futures.<Integer>quorum(status -> true).await().get().size(),equalTo(0));
+    }
+    @Test
+    public void traverse(){
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        ListX<Integer> ids = ListX.fromIterable(ReactiveSeq.range(0, 1000).toList());
+        Future<ListX<Integer>> result = Futures.traverse(ids, i -> Future.of(() -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            running.decrementAndGet();
+            return i * 2;
+        }), 4);
+        ListX<Integer> values = result.await().get();
+        assertThat(values.size(),equalTo(1000));
+        assertThat(ReactiveSeq.fromIterable(values).toList(),equalTo(ReactiveSeq.range(0, 1000).map(i -> i * 2).toList()));
+        assertThat(maxRunning.get() <= 4,equalTo(true));
+
+        assertThat(Futures.traverse(ListX.<Integer>empty(), i -> Future.successful(i), 2).await().get().size(),equalTo(0));
+    }
+    @Test
+    public void traverseFailure(){
+        AtomicInteger started = new AtomicInteger();
+        Future<ListX<Integer>> result = Futures.traverse(ReactiveSeq.range(0, 100).toList(), i -> {
+            started.incrementAndGet();
+            return i == 0 ? Future.<Integer>failed(new IllegalStateException()) : Promise.<Integer>make().future();
+        }, 2);
+        assertThat(result.await().getCause().get(),instanceOf(IllegalStateException.class));
+        assertThat(started.get() <= 2,equalTo(true));
+    }
+    @Test
+    public void sequence(){
+        Promise<Integer> p1 = Promise.make();
+        Promise<Integer> p2 = Promise.make();
+        Future<ListX<Integer>> result = Futures.sequence(ListX.fromIterable(java.util.Arrays.asList(p1.future(), p2.future(), Future.successful(3))));
+        p2.success(2);
+        assertThat(result.isCompleted(),equalTo(false));
+        p1.success(1);
+        assertThat(ReactiveSeq.fromIterable(result.await().get()).toList(),equalTo(java.util.Arrays.asList(1, 2, 3)));
+
+        Future<ReactiveSeq<Integer>> failed = Futures.sequence(ReactiveSeq.of(Promise.<Integer>make().future(),
+                                                                              Future.failed(new IllegalStateException())));
+        assertThat(failed.await().getCause().get(),instanceOf(IllegalStateException.class));
+        assertThat(Futures.sequence(ReactiveSeq.<Future<Integer>>empty()).await().get().count(),equalTo(0L));
+    }
+    @Test
+    public void sequenceLarge(){
+        ReactiveSeq<Future<Integer>> futures = ReactiveSeq.range(0, 100_000).map(Future::successful);
+        assertThat(Futures.sequence(futures).await().get().count(),equalTo(100_000L));
+    }
+    @Test
+    public void completionStream(){
+        Promise<Integer> slow = Promise.make();
+        Promise<Integer> fast = Promise.make();
+        java.util.List<Integer> received = new java.util.concurrent.CopyOnWriteArrayList<>();
+        Futures.completionStream(java.util.Arrays.asList(slow.future(), fast.future(), Future.successful(3)))
+               .subscribe(new org.reactivestreams.Subscriber<Integer>() {
+                   public void onSubscribe(org.reactivestreams.Subscription s) { s.request(Long.MAX_VALUE); }
+                   public void onNext(Integer i) { received.add(i); }
+                   public void onError(Throwable t) { }
+                   public void onComplete() { }
+               });
+        awaitSize(received, 1);
+        fast.success(2);
+        awaitSize(received, 2);
+        slow.success(1);
+        awaitSize(received, 3);
+        assertThat(received,equalTo(java.util.Arrays.asList(3, 2, 1)));
+        assertThat(Futures.completionStream(java.util.Arrays.asList(Future.successful(1), Future.successful(2))).toList().size(),equalTo(2));
+
+        assertThat(Futures.completionStream(java.util.Arrays.<Future<Integer>>asList()).toList().size(),equalTo(0));
+    }
+    @Test
+    public void completionStreamBackpressure(){
+        Promise<Integer> pending = Promise.make();
+        java.util.List<Integer> received = new java.util.concurrent.CopyOnWriteArrayList<>();
+        org.reactivestreams.Subscription[] subscription = new org.reactivestreams.Subscription[1];
+        AtomicInteger completed = new AtomicInteger();
+        Futures.completionStream(java.util.Arrays.asList(Future.successful(1), Future.successful(2), pending.future()))
+               .subscribe(new org.reactivestreams.Subscriber<Integer>() {
+                   public void onSubscribe(org.reactivestreams.Subscription s) { subscription[0] = s; }
+                   public void onNext(Integer i) { received.add(i); }
+                   public void onError(Throwable t) { }
+                   public void onComplete() { completed.incrementAndGet(); }
+               });
+        subscription[0].request(1);
+        awaitSize(received, 1);
+        assertThat(received.size(),equalTo(1));
+        subscription[0].request(5);
+        awaitSize(received, 2);
+        pending.success(3);
+        awaitSize(received, 3);
+        assertThat(received.size(),equalTo(3));
+        assertThat(completed.get(),equalTo(1));
+    }
+    @Test
+    public void completionStreamInvalidRequestSignalledSerially(){
+        java.util.List<String> signals = new java.util.concurrent.CopyOnWriteArrayList<>();
+        org.reactivestreams.Subscription[] subscription = new org.reactivestreams.Subscription[1];
+        Futures.completionStream(java.util.Arrays.asList(Future.successful(1), Future.successful(2)))
+               .subscribe(new org.reactivestreams.Subscriber<Integer>() {
+                   public void onSubscribe(org.reactivestreams.Subscription s) { subscription[0] = s; }
+                   public void onNext(Integer i) {
+                       signals.add("onNext start");
+                       subscription[0].request(0);
+                       signals.add("onNext end");
+                   }
+                   public void onError(Throwable t) { signals.add("onError " + t.getClass().getSimpleName()); }
+                   public void onComplete() { signals.add("onComplete"); }
+               });
+        subscription[0].request(1);
+        awaitSize(signals, 3);
+        assertThat(signals,equalTo(java.util.Arrays.asList("onNext start", "onNext end", "onError IllegalArgumentException")));
+    }
+    @Test
+    public void completionStreamFailure(){
+        Promise<Integer> pending = Promise.make();
+        Throwable[] error = new Throwable[1];
+        Futures.completionStream(java.util.Arrays.asList(pending.future(), Future.<Integer>failed(new IllegalStateException())))
+               .forEach(i -> { }, e -> error[0] = e);
+        for (int i = 0; i < 100 && error[0] == null; i++)
+            sleep(10);
+        assertThat(error[0],instanceOf(IllegalStateException.class));
+    }
+    private static void awaitSize(java.util.List<?> list, int size){
+        for (int i = 0; i < 100 && list.size() < size; i++)
+            sleep(10);
+        sleep(20);
+    }
+    private static void sleep(long millis){
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    @Test
+    public void withTimeout(){
+        Promise<Integer> never = Promise.make();
+        assertThat(Futures.withTimeout(never.future(), java.time.Duration.ofMillis(20)).await().getCause().get(),
+                   instanceOf(java.util.concurrent.TimeoutException.class));
+        assertThat(Futures.withTimeout(never.future(), java.time.Duration.ofMillis(20), () -> -1).await().get(),equalTo(-1));
+        assertThat(Futures.withTimeout(Future.of(() -> 1), java.time.Duration.ofSeconds(10)).await().get(),equalTo(1));
+    }
+    @Test
+    public void forEachDeadline(){
+        AtomicInteger started = new AtomicInteger();
+        Future<Integer> result = Futures.forEach3(Future.successful(1),
+                                                  a -> Future.of(() -> { Thread.sleep(100); return a + 1; }),
+                                                  (a, b) -> { started.incrementAndGet(); return Future.successful(a + b); },
+                                                  (a, b, c) -> a + b + c,
+                                                  java.time.Duration.ofMillis(20));
+        assertThat(result.await().getCause().get(),instanceOf(java.util.concurrent.TimeoutException.class));
+        sleep(200);
+        assertThat(started.get(),equalTo(0));
+
+        assertThat(Futures.forEach2(Future.successful(1), a -> Future.successful(a + 1), (a, b) -> a + b,
+                                    java.time.Duration.ofSeconds(10)).await().get(),equalTo(3));
+        assertThat(Futures.forEach4(Future.successful(1), a -> Future.successful(a + 1), (a, b) -> Future.successful(a + b),
+                                    (a, b, c) -> Future.successful(a + b + c), (a, b, c, d) -> a + b + c + d,
+                                    java.time.Duration.ofSeconds(10)).await().get(),equalTo(12));
+    }
+    @Test
+    public void forEachFastPath(){
+        java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newSingleThreadExecutor();
+        Thread caller = Thread.currentThread();
+        Thread[] yielded = new Thread[1];
+        Future<Integer> result = Futures.forEach4(Future.successful(1), a -> Future.successful(a + 1),
+                                                  (a, b) -> Future.successful(a + b),
+                                                  (a, b, c) -> Future.successful(a + b + c),
+                                                  (a, b, c, d) -> { yielded[0] = Thread.currentThread(); return a + b + c + d; },
+                                                  executor);
+        assertThat(result.isCompleted(),equalTo(true));
+        assertThat(result.get(),equalTo(12));
+        assertThat(yielded[0],equalTo(caller));
+        executor.shutdown();
+    }
+    @Test
+    public void forEachResumesOnExecutor(){
+        java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newSingleThreadExecutor(r -> new Thread(r, "comprehension"));
+        Promise<Integer> pending = Promise.make();
+        String[] yielded = new String[1];
+        Future<Integer> result = Futures.forEach3(Future.successful(1), a -> pending.future(),
+                                                  (a, b) -> Future.successful(a + b),
+                                                  (a, b, c) -> { yielded[0] = Thread.currentThread().getName(); return a + b + c; },
+                                                  executor);
+        assertThat(result.isCompleted(),equalTo(false));
+        pending.success(2);
+        assertThat(result.await().get(),equalTo(6));
+        assertThat(yielded[0],equalTo("comprehension"));
+
+        assertThat(Futures.forEach2(Future.successful(1), a -> Future.<Integer>failed(new IllegalStateException()),
+                                    (a, b) -> a + b, executor).getCause().get(),instanceOf(IllegalStateException.class));
+        executor.shutdown();
+    }
+    @Test
+    public void forEachResumesWithoutSecondHop(){
+        java.util.concurrent.ExecutorService pool = java.util.concurrent.Executors.newSingleThreadExecutor();
+        AtomicInteger executed = new AtomicInteger();
+        java.util.concurrent.ExecutorService executor = new java.util.concurrent.AbstractExecutorService() {
+            public void execute(Runnable command) { executed.incrementAndGet(); pool.execute(command); }
+            public void shutdown() { pool.shutdown(); }
+            public java.util.List<Runnable> shutdownNow() { return pool.shutdownNow(); }
+            public boolean isShutdown() { return pool.isShutdown(); }
+            public boolean isTerminated() { return pool.isTerminated(); }
+            public boolean awaitTermination(long timeout, java.util.concurrent.TimeUnit unit) throws InterruptedException {
+                return pool.awaitTermination(timeout, unit);
+            }
+        };
+        Promise<Integer> pending = Promise.make(executor);
+        Future<Integer> result = Futures.forEach2(Future.successful(1), a -> pending.future(), (a, b) -> a + b, executor);
+        pending.success(2);
+        for (int i = 0; i < 100 && !result.isCompleted(); i++)
+            sleep(10);
+        assertThat(result.get(),equalTo(3));
+        assertThat(executed.get(),equalTo(1));
+        executor.shutdown();
+    }
+    @Test
+    public void forEachNullStage(){
+        java.util.concurrent.ExecutorService executor = java.util.concurrent.Executors.newSingleThreadExecutor();
+        assertThat(Futures.forEach2(Future.successful(1), a -> (Future<Integer>) null, (a, b) -> a + b, executor)
+                          .await().getCause().get(),instanceOf(NullPointerException.class));
+        Promise<Integer> pending = Promise.make();
+        Future<Integer> result = Futures.forEach3(Future.successful(1), a -> pending.future(), (a, b) -> (Future<Integer>) null,
+                                                  (a, b, c) -> a + b + c, executor);
+        pending.success(2);
+        assertThat(result.await().getCause().get(),instanceOf(NullPointerException.class));
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,46 @@
+package cyclops;
+
+import cyclops.companion.vavr.Lazys;
+import cyclops.companion.vavr.Options;
+import cyclops.companion.vavr.Trys;
+import cyclops.reactive.ReactiveSeq;
+import io.vavr.Lazy;
+import io.vavr.control.Option;
+import io.vavr.control.Try;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+
+public class SequenceTest {
+
+    @Test
+    public void trys(){
+        assertThat(Trys.sequence(ReactiveSeq.of(Try.success(1), Try.success(2))).get().toList(),equalTo(Arrays.asList(1, 2)));
+
+        AtomicInteger pulled = new AtomicInteger();
+        Try<ReactiveSeq<Integer>> failed = Trys.sequence(ReactiveSeq.of(Try.success(1), Try.<Integer>failure(new IllegalStateException()), Try.success(3))
+                                                                    .peek(t -> pulled.incrementAndGet()));
+        assertThat(failed.getCause(),instanceOf(IllegalStateException.class));
+        assertThat(pulled.get(),equalTo(2));
+    }
+    @Test
+    public void options(){
+        assertThat(Options.sequence(ReactiveSeq.of(Option.some(1), Option.some(2))).get().toList(),equalTo(Arrays.asList(1, 2)));
+        assertThat(Options.sequence(ReactiveSeq.of(Option.some(1), Option.<Integer>none())).isEmpty(),equalTo(true));
+        assertThat(Options.sequence(ReactiveSeq.range(0, 100_000).map(Option::some)).get().count(),equalTo(100_000L));
+    }
+    @Test
+    public void lazys(){
+        AtomicInteger evaluated = new AtomicInteger();
+        Lazy<ReactiveSeq<Integer>> result = Lazys.sequence(ReactiveSeq.of(Lazy.of(() -> evaluated.incrementAndGet()),
+                                                                           Lazy.of(() -> evaluated.incrementAndGet())));
+        assertThat(evaluated.get(),equalTo(0));
+        assertThat(result.get().toList(),equalTo(Arrays.asList(1, 2)));
+    }
+}
@@ -0,0 +1,72 @@
+package cyclops;
+
+import cyclops.conversion.vavr.FromCyclops;
+import cyclops.conversion.vavr.ToCyclops;
+import cyclops.reactive.ReactiveSeq;
+import io.vavr.collection.Iterator;
+import io.vavr.collection.Stream;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+
+public class StreamConversionTest {
+
+    @Test
+    public void fromStreamIsLazy(){
+        AtomicInteger pulled = new AtomicInteger();
+        Stream<Integer> stream = FromCyclops.fromStream(IntStream.range(0, 1000).boxed().peek(i -> pulled.incrementAndGet()), 10);
+        assertThat(stream.head(),equalTo(0));
+        assertThat(pulled.get(),equalTo(10));
+        assertThat(stream.take(25).toJavaList().size(),equalTo(25));
+        assertThat(pulled.get(),equalTo(30));
+        assertThat(stream.length(),equalTo(1000));
+        assertThat(stream.sum().intValue(),equalTo(499500));
+
+        AtomicInteger read = new AtomicInteger();
+        Stream<Integer> unchunked = FromCyclops.fromStream(IntStream.range(0, 1000).boxed().peek(i -> read.incrementAndGet()));
+        assertThat(unchunked.head(),equalTo(0));
+        assertThat(read.get(),equalTo(1));
+        assertThat(unchunked.take(25).toJavaList().size(),equalTo(25));
+        assertThat(read.get(),equalTo(25));
+
+        assertThat(FromCyclops.fromStream(ReactiveSeq.iterate(1, i -> i + 1)).take(3).toJavaList(),equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(FromCyclops.fromStream(java.util.stream.Stream.<Integer>empty()).isEmpty(),equalTo(true));
+    }
+    @Test
+    public void traversable(){
+        Iterator<Integer> values = FromCyclops.traversable(ReactiveSeq.range(0, 1000), 7);
+        assertThat(values.map(i -> i * 2).fold(0, Integer::sum),equalTo(999000));
+        assertThat(FromCyclops.traversable(java.util.stream.Stream.of(1, 2, 3)).toList().toJavaList(),equalTo(Arrays.asList(1, 2, 3)));
+
+        AtomicInteger read = new AtomicInteger();
+        Iterator<Integer> unchunked = FromCyclops.traversable(IntStream.range(0, 1000).boxed().peek(i -> read.incrementAndGet()));
+        assertThat(unchunked.next(),equalTo(0));
+        assertThat(read.get(),equalTo(1));
+    }
+    @Test
+    public void reactiveSeq(){
+        assertThat(ToCyclops.reactiveSeq(Stream.iterate(1, i -> i + 1)).limit(3).toList(),equalTo(Arrays.asList(1, 2, 3)));
+
+        Stream<Integer> finite = Stream.range(0, 10_000);
+        assertThat(ToCyclops.finiteReactiveSeq(finite).toList(),equalTo(finite.toJavaList()));
+        assertThat(ToCyclops.finiteReactiveSeq(finite).spliterator().getExactSizeIfKnown(),equalTo(10_000L));
+    }
+    @Test
+    public void splits(){
+        Spliterator<Integer> split = ToCyclops.finiteReactiveSeq(Stream.range(0, 10_000)).spliterator();
+        Spliterator<Integer> prefix = split.trySplit();
+        assertThat(prefix.getExactSizeIfKnown(),equalTo(5_000L));
+        assertThat(split.getExactSizeIfKnown(),equalTo(5_000L));
+        java.util.List<Integer> seen = new java.util.ArrayList<>();
+        prefix.forEachRemaining(seen::add);
+        split.forEachRemaining(seen::add);
+        assertThat(seen,equalTo(Stream.range(0, 10_000).toJavaList()));
+    }
+}
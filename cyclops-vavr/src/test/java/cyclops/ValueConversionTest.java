@@ -0,0 +1,54 @@
+package cyclops;
+
+import cyclops.control.Eval;
+import cyclops.conversion.vavr.FromCyclops;
+import cyclops.conversion.vavr.ToCyclops;
+import io.vavr.Lazy;
+import io.vavr.control.Option;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+
+public class ValueConversionTest {
+
+    @Test
+    public void lazyView(){
+        AtomicInteger calls = new AtomicInteger();
+        Lazy<Integer> lazy = Lazy.of(() -> calls.incrementAndGet());
+        Eval<Integer> eval = ToCyclops.eval(lazy);
+        assertThat(lazy.isEvaluated(),equalTo(false));
+        assertThat(eval.get(),equalTo(1));
+        assertThat(eval.get(),equalTo(1));
+        assertThat(lazy.isEvaluated(),equalTo(true));
+        AtomicInteger maps = new AtomicInteger();
+        Eval<Integer> mapped = eval.map(i -> { maps.incrementAndGet(); return i + 1; });
+        assertThat(mapped.get(),equalTo(2));
+        assertThat(mapped.get(),equalTo(2));
+        assertThat(mapped.map(i -> i * 2).get(),equalTo(4));
+        assertThat(maps.get(),equalTo(1));
+        AtomicInteger flatMaps = new AtomicInteger();
+        Eval<Integer> flatMapped = eval.flatMap(i -> { flatMaps.incrementAndGet(); return Eval.now(i + 2); });
+        assertThat(flatMapped.get(),equalTo(3));
+        assertThat(flatMapped.get(),equalTo(3));
+        assertThat(flatMaps.get(),equalTo(1));
+        assertThat(calls.get(),equalTo(1));
+        assertThat(eval,equalTo(Eval.now(1)));
+    }
+    @Test
+    public void lazyRoundTrip(){
+        Lazy<Integer> lazy = Lazy.of(() -> 1);
+        assertThat(FromCyclops.eval(ToCyclops.eval(lazy)) == lazy,equalTo(true));
+        assertThat(FromCyclops.lazy(ToCyclops.eval(lazy)) == lazy,equalTo(true));
+        assertThat(FromCyclops.eval(Eval.now(2)).get(),equalTo(2));
+    }
+    @Test
+    public void option(){
+        assertThat(VavrConverters.toCyclopsOption(Option.some(1)),equalTo(cyclops.control.Option.some(1)));
+        assertThat(VavrConverters.toCyclopsOption(Option.none()),equalTo(cyclops.control.Option.none()));
+        assertThat(FromCyclops.option(ToCyclops.option(Option.some(1))),equalTo(Option.some(1)));
+    }
+}
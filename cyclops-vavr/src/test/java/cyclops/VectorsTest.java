@@ -0,0 +1,47 @@
+package cyclops;
+
+import cyclops.collections.vavr.VavrVectorX;
+import cyclops.companion.Monoids;
+import cyclops.companion.vavr.Arrays;
+import cyclops.companion.vavr.VavrMonoids;
+import cyclops.companion.vavr.Vectors;
+import io.vavr.collection.Array;
+import io.vavr.collection.Vector;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+
+public class VectorsTest {
+
+    static ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterClass
+    public static void shutdown(){
+        pool.shutdown();
+    }
+
+    @Test
+    public void parallelMapReduce(){
+        Vector<Integer> vector = Vector.range(0,100_000);
+        assertThat(Vectors.parallelMapReduce(vector,i->i%7,Monoids.intSum),equalTo(vector.map(i->i%7).sum().intValue()));
+        assertThat(Vectors.parallelReduce(Vector.empty(),Monoids.intSum),equalTo(0));
+        assertThat(Vectors.parallelMapReduce(Vector.of(1,2,3),i->i*2,Monoids.intSum),equalTo(12));
+    }
+    @Test
+    public void parallelMapReduceKeepsOrder(){
+        Vector<Integer> vector = Vector.range(0,50_000);
+        assertThat(Vectors.parallelMapReduce(vector,Vector::of,VavrMonoids.vectorConcat(),pool),equalTo(vector));
+        Array<Integer> array = Array.range(0,50_000);
+        assertThat(Arrays.parallelMapReduce(array,Array::of,VavrMonoids.arrayConcat(),pool),equalTo(array));
+    }
+    @Test
+    public void vectorX(){
+        assertThat(VavrVectorX.parallelMapReduce(VavrVectorX.ofAll(Vector.range(0,10_000)),i->1,Monoids.intSum),equalTo(10_000));
+        assertThat(VavrVectorX.parallelMapReduce(VavrVectorX.of(1,2,3),i->i,Monoids.intSum),equalTo(6));
+    }
+}